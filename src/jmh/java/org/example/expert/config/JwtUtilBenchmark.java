@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// 모든 인증 요청이 거치는 토큰 발급 / 검증 비용 (us)
+// 실행: ./gradlew jmh -PjmhIncludes=JwtUtilBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY = "c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+        token = jwtUtil.substringToken(createToken());
+    }
+
+    // 로그인 / 회원가입
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@example.com", "nickname", UserRole.ROLE_USER);
+    }
+
+    // JwtFilter 에서 요청마다 수행
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// bcrypt cost 별 해시 1회 소요 시간 (ms). 로그인 지연 예산 안에서 가장 높은 cost 를 고르는 기준으로 사용한다.
+// 실행: ./gradlew jmh -PjmhIncludes=PasswordEncoderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "6", "8", "10", "12"})
+    private int cost;
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 실제와 같이 해싱 스레드풀을 거쳐서 측정
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, TimeUnit.MINUTES.toMillis(1), 0);
+        passwordEncoder = new PasswordEncoder(passwordHashingExecutor, cost);
+        encodedPassword = passwordEncoder.encode("Password1234");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    // 회원가입 / 비밀번호 변경
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1234");
+    }
+
+    // 로그인
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1234", encodedPassword);
+    }
+}
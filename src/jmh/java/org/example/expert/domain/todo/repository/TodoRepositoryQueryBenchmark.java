@@ -0,0 +1,161 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.example.expert.domain.todo.dto.TodoGetCondition;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 임베디드 H2 에 데이터를 채운 뒤 목록 / 검색 쿼리 1회 소요 시간 (us)
+// 실제 MySQL 과 절대값은 다르므로 쿼리 변경 전후의 상대 비교용으로 사용한다.
+// 실행: ./gradlew jmh -PjmhIncludes=TodoRepositoryQueryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TodoRepositoryQueryBenchmark {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+    private static final int USER_COUNT = 100;
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    @Param({"10000"})
+    private int todoCount;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private final TodoGetCondition weatherCondition = new TodoGetCondition("Sunny", null, null);
+    private final TodoSearchCondition keywordCondition = new TodoSearchCondition("할일 12", null, null, null);
+    private final TodoSearchCondition nicknameCondition = new TodoSearchCondition(null, null, null, "user1");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "logging.level.root=WARN",
+                        "jwt.secret.key=c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0",
+                        "cloud.aws.credentials.access-key=jmh",
+                        "cloud.aws.credentials.secret-key=jmh",
+                        "cloud.aws.region.static=ap-northeast-2",
+                        "cloud.aws.stack.auto=false",
+                        "cloud.aws.s3.bucket=jmh"
+                )
+                .run();
+
+        todoRepository = context.getBean(TodoRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        seed(new TransactionTemplate(transactionManager));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed(TransactionTemplate transactionTemplate) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        SearchIndexService searchIndexService = context.getBean(SearchIndexService.class);
+
+        List<User> users = transactionTemplate.execute(status -> {
+            List<User> newUsers = new ArrayList<>();
+            for (int i = 0; i < USER_COUNT; i++) {
+                newUsers.add(new User("user" + i + "@example.com", "user" + i, "password", UserRole.ROLE_USER));
+            }
+            return userRepository.saveAll(newUsers);
+        });
+
+        for (int from = 0; from < todoCount; from += SEED_CHUNK_SIZE) {
+            int to = Math.min(from + SEED_CHUNK_SIZE, todoCount);
+            int chunkFrom = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Todo> todos = new ArrayList<>();
+                for (int i = chunkFrom; i < to; i++) {
+                    todos.add(new Todo("할일 " + i, "contents " + i, WEATHERS[i % WEATHERS.length], users.get(i % USER_COUNT)));
+                }
+                Map<Long, String> titleById = new LinkedHashMap<>();
+                for (Todo todo : todoRepository.saveAll(todos)) {
+                    titleById.put(todo.getId(), todo.getTitle());
+                }
+                searchIndexService.indexNew(SearchTarget.TODO_TITLE, titleById);
+            });
+        }
+
+        // 기간 조건 / 정렬이 의미 있도록 작성일을 최근 1년에 분산
+        context.getBean(JdbcTemplate.class).update(
+                "UPDATE todos SET created_at = DATEADD('DAY', -MOD(id, 365), created_at), " +
+                        "modified_at = DATEADD('DAY', -MOD(id, 365), modified_at)");
+    }
+
+    @Benchmark
+    public Page<TodoResponse> findTodosByCondition() {
+        return readOnlyTransaction.execute(status -> todoRepository.findTodosByCondition(weatherCondition, pageable));
+    }
+
+    @Benchmark
+    public Slice<TodoResponse> findTodoSliceByCondition() {
+        return readOnlyTransaction.execute(status -> todoRepository.findTodoSliceByCondition(weatherCondition, pageable));
+    }
+
+    @Benchmark
+    public List<TodoResponse> findTodosByConditionAfter() {
+        return readOnlyTransaction.execute(status -> todoRepository.findTodosByConditionAfter(weatherCondition, null, 10));
+    }
+
+    @Benchmark
+    public Page<TodoSearchResponse> searchTodosByKeyword() {
+        return readOnlyTransaction.execute(status -> todoRepository.searchTodos(keywordCondition, pageable));
+    }
+
+    @Benchmark
+    public Page<TodoSearchResponse> searchTodosByNickname() {
+        return readOnlyTransaction.execute(status -> todoRepository.searchTodos(nicknameCondition, pageable));
+    }
+
+    @Benchmark
+    public List<TodoSearchResponse> searchTodosAfter() {
+        return readOnlyTransaction.execute(status -> todoRepository.searchTodosAfter(keywordCondition, null, 10));
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 단건 조회 시 Todo 엔티티를 TodoResponse 로 변환하는 비용 (ns)
+// 실행: ./gradlew jmh -PjmhIncludes=TodoResponseMappingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TodoResponseMappingBenchmark {
+
+    private Todo todo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User user = new User("user@example.com", "nickname", "password", UserRole.ROLE_USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        todo = new Todo("title", "contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        ReflectionTestUtils.setField(todo, "createdAt", LocalDateTime.now());
+        ReflectionTestUtils.setField(todo, "modifiedAt", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public TodoResponse toTodoResponse() {
+        return TodoService.toTodoResponse(todo);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.user.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter 에서 요청마다 claim 의 권한 문자열을 UserRole 로 변환하는 비용 (ns)
+// 실행: ./gradlew jmh -PjmhIncludes=UserRoleBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserRoleBenchmark {
+
+    @Param({"ROLE_USER", "ROLE_ADMIN", "role_admin"})
+    private String role;
+
+    @Benchmark
+    public UserRole of() {
+        return UserRole.of(role);
+    }
+}
@@ -0,0 +1,305 @@
+package org.example.expert.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.entity.IdSequence;
+import org.example.expert.domain.common.repository.IdSequenceJdbcRepository;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+// 성능 측정용 대량 데이터 생성기 (users, todos, managers, comments, log + 검색 색인)
+// 애플리케이션과 같은 id_sequences / 검색 토큰 / 비정규화 카운터 규칙으로 JDBC batch 저장한다.
+// 실행: ./gradlew seedData --args='--seed.users=10000 --seed.todos=100000'
+@Slf4j
+public class DataSeeder {
+
+    // 요청 스코프 빈을 쓰는 AOP 등 웹 계층 빈도 함께 뜨므로 서버는 임의 포트로 띄운다.
+    private static final String[] DEFAULT_PROPERTIES = {
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:file:./build/loadtest/expert;MODE=MySQL;AUTO_SERVER=TRUE",
+            "spring.jpa.hibernate.ddl-auto=update",
+            "jwt.secret.key=c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0",
+            "cloud.aws.credentials.access-key=loadtest",
+            "cloud.aws.credentials.secret-key=loadtest",
+            "cloud.aws.region.static=ap-northeast-2",
+            "cloud.aws.stack.auto=false",
+            "cloud.aws.s3.bucket=loadtest"
+    };
+
+    private static final String INSERT_TODO_SQL =
+            "INSERT INTO todos (id, title, contents, weather, manager_count, comment_count, user_id, created_at, modified_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MANAGER_SQL = "INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)";
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_LOG_SQL =
+            "INSERT INTO log (id, request_user_id, manager_user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // 날씨 API 가 주는 값 중 맑은 날이 가장 많도록 가중치를 준다.
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Windy", "Snowy"};
+    private static final int[] WEATHER_WEIGHTS = {45, 25, 15, 10, 5};
+
+    private static final String[] TITLE_SUBJECTS = {"주간", "월간", "팀", "개인", "프로젝트", "Sprint", "Release", "Weekly"};
+    private static final String[] TITLE_ACTIONS = {"회의 준비", "보고서 작성", "코드 리뷰", "장보기", "운동", "스터디", "배포", "Planning"};
+    private static final String[] COMMENT_CONTENTS = {"확인했습니다.", "진행 중입니다.", "완료했습니다.", "일정 조정이 필요합니다.", "LGTM"};
+
+    private final SeedOptions options;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdSequenceJdbcRepository idSequenceJdbcRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final SearchIndexService searchIndexService;
+    private final PasswordEncoder passwordEncoder;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private long[] userIds;
+
+    public DataSeeder(ConfigurableApplicationContext context) {
+        this.options = new SeedOptions(context.getEnvironment());
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+        this.idSequenceJdbcRepository = context.getBean(IdSequenceJdbcRepository.class);
+        this.userJdbcRepository = context.getBean(UserJdbcRepository.class);
+        this.searchIndexService = context.getBean(SearchIndexService.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+    }
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(DEFAULT_PROPERTIES)
+                .run(args);
+        try {
+            new DataSeeder(context).seed();
+        } finally {
+            context.close();
+        }
+    }
+
+    public void seed() {
+        log.info("Seeding started. {}", options);
+        long startedAt = System.nanoTime();
+
+        // 유저마다 bcrypt 를 돌리면 생성 시간 대부분이 해싱이 되므로 한 번만 해시해서 같이 사용한다.
+        String encodedPassword = passwordEncoder.encode(options.getPassword());
+        userIds = new long[options.getUsers()];
+
+        runChunks("users", options.getUsers(), chunkIndex -> seedUsers(chunkIndex, encodedPassword));
+        runChunks("todos", options.getTodos(), this::seedTodos);
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Seeding finished in {} ms. users: {}, todos: {}, managers: {}, comments: {}, log: {}, search_tokens: {}",
+                elapsedMs, count("users"), count("todos"), count("managers"), count("comments"), count("log"),
+                count("search_tokens"));
+    }
+
+    // 청크를 여러 스레드에서 나눠 저장한다. 청크마다 짧은 트랜잭션 하나.
+    private void runChunks(String name, int total, IntConsumer chunkSeeder) {
+        int chunkCount = (total + options.getChunkSize() - 1) / options.getChunkSize();
+        AtomicInteger done = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, options.getThreads()));
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunkCount);
+            for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+                int index = chunkIndex;
+                futures.add(executor.submit(() -> {
+                    chunkSeeder.accept(index);
+                    int finished = done.incrementAndGet();
+                    if (finished % 10 == 0 || finished == chunkCount) {
+                        log.info("Seeded {}: {} / {} chunks", name, finished, chunkCount);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding " + name + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void seedUsers(int chunkIndex, String encodedPassword) {
+        int from = chunkIndex * options.getChunkSize();
+        int to = Math.min(from + options.getChunkSize(), options.getUsers());
+
+        List<User> users = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            // 100 명 중 1 명은 관리자
+            UserRole userRole = i % 100 == 0 ? UserRole.ROLE_ADMIN : UserRole.ROLE_USER;
+            users.add(new User(email(i), nickname(i), encodedPassword, userRole));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            long firstId = idSequenceJdbcRepository.reserve(IdSequence.USERS, users.size());
+            userJdbcRepository.insertAll(firstId, users);
+
+            Map<Long, String> nicknameById = new LinkedHashMap<>();
+            for (int i = 0; i < users.size(); i++) {
+                nicknameById.put(firstId + i, users.get(i).getNickname());
+                userIds[from + i] = firstId + i;
+            }
+            searchIndexService.indexNew(SearchTarget.USER_NICKNAME, nicknameById);
+        });
+    }
+
+    private void seedTodos(int chunkIndex) {
+        int from = chunkIndex * options.getChunkSize();
+        int to = Math.min(from + options.getChunkSize(), options.getTodos());
+        // 청크 번호로 시드를 정해서 스레드 수와 관계없이 같은 데이터가 만들어지도록 한다.
+        SplittableRandom random = new SplittableRandom(options.getRandomSeed() * 31 + chunkIndex);
+
+        List<Object[]> todoRows = new ArrayList<>(to - from);
+        List<Object[]> managerRows = new ArrayList<>();
+        List<Object[]> commentRows = new ArrayList<>();
+        List<Object[]> logRows = new ArrayList<>();
+        Map<Integer, String> titleByRow = new LinkedHashMap<>();
+
+        for (int i = from; i < to; i++) {
+            int row = i - from;
+            long ownerId = userIds[skewedUserIndex(random)];
+            LocalDateTime createdAt = skewedCreatedAt(random);
+            LocalDateTime modifiedAt = random.nextInt(10) < 3 ? between(random, createdAt, now) : createdAt;
+            String title = TITLE_SUBJECTS[random.nextInt(TITLE_SUBJECTS.length)] + " "
+                    + TITLE_ACTIONS[random.nextInt(TITLE_ACTIONS.length)] + " " + i;
+
+            // 작성자는 항상 담당자, 나머지 담당자는 작성자를 제외한 서로 다른 유저
+            managerRows.add(new Object[]{null, ownerId, row});
+            Set<Long> managerIds = new HashSet<>();
+            managerIds.add(ownerId);
+            int extraManagers = Math.min(random.nextInt(options.getMaxExtraManagers() + 1), userIds.length - 1);
+            while (managerIds.size() < extraManagers + 1) {
+                long managerId = userIds[random.nextInt(userIds.length)];
+                if (managerIds.add(managerId)) {
+                    managerRows.add(new Object[]{null, managerId, row});
+                    logRows.add(new Object[]{null, ownerId, managerId, row, timestamp(createdAt), timestamp(createdAt)});
+                }
+            }
+
+            // 댓글 수는 대부분 적고 일부 일정에 몰리도록 한다.
+            int comments = (int) (options.getMaxComments() * Math.pow(random.nextDouble(), 3));
+            for (int c = 0; c < comments; c++) {
+                Timestamp commentedAt = timestamp(between(random, createdAt, now));
+                commentRows.add(new Object[]{null, COMMENT_CONTENTS[random.nextInt(COMMENT_CONTENTS.length)],
+                        userIds[random.nextInt(userIds.length)], row, commentedAt, commentedAt});
+            }
+
+            todoRows.add(new Object[]{null, title, "contents " + i, pickWeather(random), managerIds.size(), comments,
+                    ownerId, timestamp(createdAt), timestamp(modifiedAt)});
+            titleByRow.put(row, title);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            long firstTodoId = reserveIds(IdSequence.TODOS, todoRows);
+            reserveIds(IdSequence.MANAGERS, managerRows);
+            reserveIds(IdSequence.COMMENTS, commentRows);
+            reserveIds(IdSequence.LOG, logRows);
+
+            // 청크 안의 순번으로 넣어 둔 todo 참조를 실제 id 로 바꾼다.
+            replaceRowWithTodoId(managerRows, 2, firstTodoId);
+            replaceRowWithTodoId(commentRows, 3, firstTodoId);
+            replaceRowWithTodoId(logRows, 3, firstTodoId);
+
+            jdbcTemplate.batchUpdate(INSERT_TODO_SQL, todoRows);
+            jdbcTemplate.batchUpdate(INSERT_MANAGER_SQL, managerRows);
+            jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, commentRows);
+            jdbcTemplate.batchUpdate(INSERT_LOG_SQL, logRows);
+
+            Map<Long, String> titleById = new LinkedHashMap<>();
+            titleByRow.forEach((row, title) -> titleById.put(firstTodoId + row, title));
+            searchIndexService.indexNew(SearchTarget.TODO_TITLE, titleById);
+        });
+    }
+
+    // 행 수만큼 id 를 예약해서 각 행의 첫 칸에 채운다.
+    private long reserveIds(String sequenceName, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0L;
+        }
+        long firstId = idSequenceJdbcRepository.reserve(sequenceName, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i)[0] = firstId + i;
+        }
+        return firstId;
+    }
+
+    private void replaceRowWithTodoId(List<Object[]> rows, int column, long firstTodoId) {
+        for (Object[] row : rows) {
+            row[column] = firstTodoId + (int) row[column];
+        }
+    }
+
+    // 앞쪽 유저일수록 일정을 많이 가진다.
+    private int skewedUserIndex(SplittableRandom random) {
+        return (int) (userIds.length * Math.pow(random.nextDouble(), 2));
+    }
+
+    // 최근일수록 일정이 많다.
+    private LocalDateTime skewedCreatedAt(SplittableRandom random) {
+        long daysAgo = (long) (options.getDays() * Math.pow(random.nextDouble(), 2));
+        return now.minusDays(daysAgo).minusSeconds(random.nextInt(24 * 60 * 60));
+    }
+
+    private LocalDateTime between(SplittableRandom random, LocalDateTime from, LocalDateTime to) {
+        long seconds = Duration.between(from, to).getSeconds();
+        return seconds <= 0 ? from : from.plusSeconds(random.nextLong(seconds));
+    }
+
+    private String pickWeather(SplittableRandom random) {
+        int value = random.nextInt(100);
+        for (int i = 0; i < WEATHERS.length; i++) {
+            value -= WEATHER_WEIGHTS[i];
+            if (value < 0) {
+                return WEATHERS[i];
+            }
+        }
+        return WEATHERS[0];
+    }
+
+    private Timestamp timestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime);
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    // LoadTestRunner 가 같은 규칙으로 로그인한다.
+    static String email(int index) {
+        return "loadtest" + index + "@example.com";
+    }
+
+    static String nickname(int index) {
+        return "user" + index;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 시나리오 단계(엔드포인트)별 응답 시간 분포와 결과 코드 집계
+@Getter
+public class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(1, MAX_TRACKABLE_NANOS, 2);
+    private final LongAdder clientErrors = new LongAdder();  // 4xx
+    private final LongAdder serverErrors = new LongAdder();  // 5xx
+    private final LongAdder failures = new LongAdder();      // 연결 실패, 타임아웃 등
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(int status, long elapsedNanos) {
+        histogram.recordValue(Math.min(elapsedNanos, MAX_TRACKABLE_NANOS));
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        }
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+}
@@ -0,0 +1,290 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// DataSeeder 로 채운 서버에 TodoController / CommentController / ManagerController 요청을 섞어 보내고
+// 단계별 처리량과 응답 시간 백분위를 출력한다.
+// 실행: ./gradlew loadTest --args='--base-url=http://localhost:8080 --concurrency=32 --duration-seconds=60'
+public class LoadTestRunner {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Windy", "Snowy"};
+    private static final String[] KEYWORDS = {"회의", "보고서", "리뷰", "스터디", "Sprint", "Planning"};
+    private static final int TODO_POOL_PAGES = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int seededUsers;
+    private final String password;
+
+    // 단계 이름 -> 가중치 (합이 100)
+    private final Map<String, Integer> weights = new LinkedHashMap<>();
+    private final Map<String, EndpointStats> statsByStep = new LinkedHashMap<>();
+
+    private final List<Long> todoIdPool = new ArrayList<>();
+    private final List<Long> userIdPool = new ArrayList<>();
+    private volatile long measureStartNanos = Long.MAX_VALUE;
+    private volatile boolean running = true;
+
+    public LoadTestRunner(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        this.warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "10"));
+        this.durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "60"));
+        this.seededUsers = Integer.parseInt(options.getOrDefault("users", "10000"));
+        this.password = options.getOrDefault("password", "Password1234!");
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency / 4), runnable -> {
+                    Thread thread = new Thread(runnable, "loadtest-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+
+        // 일정 생성(POST /todos)은 외부 날씨 API 를 호출하므로 시나리오에서 제외한다.
+        weights.put("GET /todos", 20);
+        weights.put("GET /todos/scroll", 10);
+        weights.put("GET /todos/search?keyword", 15);
+        weights.put("GET /todos/search?nickname", 5);
+        weights.put("GET /todos/{id}", 15);
+        weights.put("GET /todos/{id}/comments", 10);
+        weights.put("POST /todos/{id}/comments", 8);
+        weights.put("GET /todos/{id}/managers", 12);
+        weights.put("POST /todos/{id}/managers", 5);
+        weights.keySet().forEach(step -> statsByStep.put(step, new EndpointStats(step)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new LoadTestRunner(options).run();
+    }
+
+    public void run() throws Exception {
+        System.out.printf("Load test: %s, concurrency=%d, warmup=%ds, duration=%ds%n",
+                baseUrl, concurrency, warmupSeconds, durationSeconds);
+
+        List<VirtualUser> virtualUsers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            // 앞쪽 유저에게 일정이 몰려 있으므로 고르게 흩어서 로그인
+            int userIndex = (int) ((long) i * seededUsers / concurrency);
+            virtualUsers.add(new VirtualUser(userIndex, signin(userIndex)));
+        }
+        loadPools(virtualUsers.get(0).token);
+        for (VirtualUser virtualUser : virtualUsers) {
+            virtualUser.loadOwnTodoIds();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        for (VirtualUser virtualUser : virtualUsers) {
+            executor.execute(() -> {
+                try {
+                    while (running) {
+                        virtualUser.step();
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        long measureStart = System.nanoTime();
+        measureStartNanos = measureStart;
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        running = false;
+        long measuredNanos = System.nanoTime() - measureStart;
+
+        finished.await(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+        report(measuredNanos);
+    }
+
+    private String signin(int userIndex) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("email", DataSeeder.email(userIndex), "password", password));
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/signin"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Signin failed for " + DataSeeder.email(userIndex) + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("bearerToken").asText();
+    }
+
+    // 단건 / 댓글 / 담당자 조회에 사용할 일정 id 와 담당자로 배치할 유저 id 를 미리 모아 둔다.
+    private void loadPools(String token) throws IOException, InterruptedException {
+        for (int page = 1; page <= TODO_POOL_PAGES; page++) {
+            JsonNode content = getJson(token, "/todos?size=50&page=" + page).get("content");
+            for (JsonNode todo : content) {
+                todoIdPool.add(todo.get("id").asLong());
+                userIdPool.add(todo.get("user").get("id").asLong());
+            }
+        }
+        if (todoIdPool.isEmpty()) {
+            throw new IllegalStateException("No todos found. Run the seedData task first.");
+        }
+    }
+
+    private JsonNode getJson(String token, String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", token).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    private void report(long measuredNanos) {
+        double seconds = measuredNanos / 1_000_000_000.0;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        System.out.printf("%n%-28s %8s %9s %6s %6s %6s %9s %9s %9s %9s%n",
+                "step", "count", "req/s", "4xx", "5xx", "fail", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (EndpointStats stats : statsByStep.values()) {
+            printRow(stats.getName(), stats.getHistogram(), seconds,
+                    stats.getClientErrors().sum(), stats.getServerErrors().sum(), stats.getFailures().sum());
+            total.add(stats.getHistogram());
+            totalErrors += stats.getServerErrors().sum() + stats.getFailures().sum();
+        }
+        printRow("TOTAL", total, seconds,
+                statsByStep.values().stream().mapToLong(stats -> stats.getClientErrors().sum()).sum(),
+                statsByStep.values().stream().mapToLong(stats -> stats.getServerErrors().sum()).sum(),
+                statsByStep.values().stream().mapToLong(stats -> stats.getFailures().sum()).sum());
+        System.out.printf("%nmeasured %.1fs, throughput %.1f req/s, 5xx + failures %d%n",
+                seconds, total.getTotalCount() / seconds, totalErrors);
+    }
+
+    private void printRow(String name, Histogram histogram, double seconds, long clientErrors, long serverErrors, long failures) {
+        System.out.printf("%-28s %8d %9.1f %6d %6d %6d %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), histogram.getTotalCount() / seconds, clientErrors, serverErrors, failures,
+                histogram.getValueAtPercentile(50) / 1_000_000.0,
+                histogram.getValueAtPercentile(95) / 1_000_000.0,
+                histogram.getValueAtPercentile(99) / 1_000_000.0,
+                histogram.getMaxValue() / 1_000_000.0);
+    }
+
+    private class VirtualUser {
+
+        private final int userIndex;
+        private final String token;
+        private final List<Long> ownTodoIds = new ArrayList<>();
+
+        VirtualUser(int userIndex, String token) {
+            this.userIndex = userIndex;
+            this.token = token;
+        }
+
+        // 담당자 배치는 일정 작성자만 할 수 있으므로 본인 일정을 찾아 둔다.
+        void loadOwnTodoIds() throws IOException, InterruptedException {
+            JsonNode content = getJson(token, "/todos/search?size=20&nickname=" + DataSeeder.nickname(userIndex)).get("content");
+            for (JsonNode todo : content) {
+                ownTodoIds.add(todo.get("id").asLong());
+            }
+        }
+
+        void step() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String step = pickStep(random);
+            long todoId = todoIdPool.get(random.nextInt(todoIdPool.size()));
+
+            HttpRequest.Builder request = switch (step) {
+                case "GET /todos" -> get("/todos?page=" + (random.nextInt(5) + 1)
+                        + (random.nextBoolean() ? "&weather=" + WEATHERS[random.nextInt(WEATHERS.length)] : ""));
+                case "GET /todos/scroll" -> get("/todos/scroll?size=10");
+                case "GET /todos/search?keyword" -> get("/todos/search?keyword="
+                        + encode(KEYWORDS[random.nextInt(KEYWORDS.length)]));
+                case "GET /todos/search?nickname" -> get("/todos/search?nickname="
+                        + DataSeeder.nickname(random.nextInt(seededUsers)));
+                case "GET /todos/{id}" -> get("/todos/" + todoId);
+                case "GET /todos/{id}/comments" -> get("/todos/" + todoId + "/comments");
+                case "POST /todos/{id}/comments" -> post("/todos/" + todoId + "/comments",
+                        "{\"contents\":\"load test comment\"}");
+                case "GET /todos/{id}/managers" -> get("/todos/" + todoId + "/managers");
+                case "POST /todos/{id}/managers" -> ownTodoIds.isEmpty() ? null : post(
+                        "/todos/" + ownTodoIds.get(random.nextInt(ownTodoIds.size())) + "/managers",
+                        "{\"managerUserId\":" + userIdPool.get(random.nextInt(userIdPool.size())) + "}");
+                default -> throw new IllegalStateException("Unknown step: " + step);
+            };
+            if (request == null) {
+                return;
+            }
+            send(statsByStep.get(step), request.header("Authorization", token).build());
+        }
+
+        private void send(EndpointStats stats, HttpRequest request) {
+            long startedAt = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (startedAt >= measureStartNanos) {
+                    stats.record(response.statusCode(), System.nanoTime() - startedAt);
+                }
+            } catch (IOException e) {
+                if (startedAt >= measureStartNanos) {
+                    stats.recordFailure();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+
+        private String pickStep(ThreadLocalRandom random) {
+            int value = random.nextInt(100);
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                value -= entry.getValue();
+                if (value < 0) {
+                    return entry.getKey();
+                }
+            }
+            return "GET /todos";
+        }
+
+        private HttpRequest.Builder get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET();
+        }
+
+        private HttpRequest.Builder post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+
+        private String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+}
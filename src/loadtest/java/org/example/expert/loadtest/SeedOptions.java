@@ -0,0 +1,37 @@
+package org.example.expert.loadtest;
+
+import lombok.Getter;
+import org.springframework.core.env.Environment;
+
+@Getter
+public class SeedOptions {
+
+    private final int users;
+    private final int todos;
+    private final int maxExtraManagers;  // 작성자 외에 추가로 배치하는 담당자 수 상한
+    private final int maxComments;       // 일정당 댓글 수 상한
+    private final int days;              // 작성일을 분산할 기간 (최근일수록 많이 생성)
+    private final int threads;
+    private final int chunkSize;
+    private final long randomSeed;       // 같은 값이면 같은 데이터가 만들어진다
+    private final String password;       // 모든 유저가 같은 비밀번호를 사용 (부하 테스트 로그인용)
+
+    public SeedOptions(Environment environment) {
+        this.users = environment.getProperty("seed.users", Integer.class, 10_000);
+        this.todos = environment.getProperty("seed.todos", Integer.class, 100_000);
+        this.maxExtraManagers = environment.getProperty("seed.max-extra-managers", Integer.class, 3);
+        this.maxComments = environment.getProperty("seed.max-comments", Integer.class, 10);
+        this.days = environment.getProperty("seed.days", Integer.class, 365);
+        this.threads = environment.getProperty("seed.threads", Integer.class, Runtime.getRuntime().availableProcessors());
+        this.chunkSize = environment.getProperty("seed.chunk-size", Integer.class, 1000);
+        this.randomSeed = environment.getProperty("seed.random-seed", Long.class, 42L);
+        this.password = environment.getProperty("seed.password", "Password1234!");
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", todos=" + todos + ", maxExtraManagers=" + maxExtraManagers
+                + ", maxComments=" + maxComments + ", days=" + days + ", threads=" + threads
+                + ", chunkSize=" + chunkSize + ", randomSeed=" + randomSeed;
+    }
+}
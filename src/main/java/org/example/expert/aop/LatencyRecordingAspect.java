@@ -0,0 +1,76 @@
+package org.example.expert.aop;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.dto.LatencyStats;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// domain 패키지의 모든 컨트롤러 / 서비스 메서드 실행 시간을 메서드별 HDR 히스토그램에 기록 (로그는 남기지 않음)
+// ConcurrentHistogram 은 기록할 때 락을 잡지 않으므로 요청 처리 경로에 부담이 적다.
+@Aspect
+@Component
+public class LatencyRecordingAspect {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<Method, ConcurrentHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Around("within(org.example.expert.domain..*) && "
+            + "(@within(org.springframework.web.bind.annotation.RestController) || @within(org.springframework.stereotype.Service))")
+    public Object recordLatency(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            // 유효숫자 2자리, 범위는 기록되는 값에 맞춰 자동으로 늘어난다.
+            histograms.computeIfAbsent(method, key -> new ConcurrentHistogram(2))
+                    .recordValue(System.nanoTime() - start);
+        }
+    }
+
+    // 느린 메서드(p99)부터 정렬
+    public List<LatencyStats> getStats() {
+        return histograms.entrySet().stream()
+                .map(entry -> toStats(entry.getKey(), entry.getValue().copy()))
+                .sorted(Comparator.comparingDouble(LatencyStats::getP99Ms).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    private static LatencyStats toStats(Method method, Histogram histogram) {
+        return new LatencyStats(
+                methodName(method),
+                histogram.getTotalCount(),
+                histogram.getMean() / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(95) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI
+        );
+    }
+
+    // 오버로딩된 메서드를 구분하기 위해 파라미터 타입까지 포함 (UserController.getUser(long))
+    private static String methodName(Method method) {
+        String parameterTypes = Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", "));
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + "(" + parameterTypes + ")";
+    }
+}
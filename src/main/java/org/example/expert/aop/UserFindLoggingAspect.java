@@ -1,29 +0,0 @@
-package org.example.expert.aop;
-
-import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
-import org.springframework.stereotype.Component;
-
-@Slf4j
-@Aspect
-@Component
-@RequiredArgsConstructor
-public class UserFindLoggingAspect {
-
-    private final HttpServletRequest request;
-
-    @Around("execution(* org.example.expert.domain.user.controller.UserController.getUser(..))")
-    public Object logAfterChangeUserRole(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-
-        Object proceed = joinPoint.proceed();
-
-        long executionTime = System.currentTimeMillis() - start;
-        log.info("{} executed in {} ms", joinPoint.getSignature(), executionTime);
-        return proceed;
-    }
-}
\ No newline at end of file
@@ -1,28 +1,202 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.dto.WeatherCacheStats;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // 날짜(MM-dd) -> 날씨. 하루 동안은 같은 데이터를 사용한다.
+    private volatile Map<String, String> weatherByDate = Map.of();
+    private volatile LocalDateTime loadedAt;
+    private volatile LocalDateTime expiresAt = LocalDateTime.MIN;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean backgroundRefreshing = new AtomicBoolean(false);
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong staleHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+
+    private final CircuitBreaker circuitBreaker;
+    private final String fallbackWeather;
+    private final long maxWaitMs;
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    public WeatherClient(
+            RestTemplate weatherRestTemplate,
+            CircuitBreaker weatherCircuitBreaker,
+            @Value("${weather.fallback:Unknown}") String fallbackWeather,
+            @Value("${weather.client.max-wait-ms:3000}") long maxWaitMs
+    ) {
+        this.restTemplate = weatherRestTemplate;
+        this.circuitBreaker = weatherCircuitBreaker;
+        this.fallbackWeather = fallbackWeather;
+        this.maxWaitMs = maxWaitMs;
     }
 
     public String getTodayWeather() {
+        String today = getCurrentDate();
+        String weather = weatherByDate.get(today);
+
+        if (weather != null) {
+            if (LocalDateTime.now().isBefore(expiresAt)) {
+                hitCount.incrementAndGet();
+                return weather;
+            }
+            // 만료된 데이터라도 오늘 날씨가 있으면 바로 반환하고, 갱신은 백그라운드에서 진행 (stale-while-revalidate)
+            staleHitCount.incrementAndGet();
+            if (backgroundRefreshing.compareAndSet(false, true)) {
+                refreshExecutor.execute(() -> {
+                    try {
+                        refreshQuietly();
+                    } finally {
+                        backgroundRefreshing.set(false);
+                    }
+                });
+            }
+            return weather;
+        }
+
+        // 오늘 날씨가 캐시에 없을 때만 외부 API 응답을 기다린다.
+        missCount.incrementAndGet();
+        try {
+            refresh(LocalDate.now().plusDays(1).atStartOfDay());
+        } catch (ServerException e) {
+            return fallback(e.getMessage());
+        }
+
+        weather = weatherByDate.get(today);
+        if (weather == null) {
+            return fallback("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    // 자정 전에 미리 갱신해서 날짜가 바뀌어도 요청이 외부 API 를 기다리지 않도록 한다 (refresh-ahead)
+    @Scheduled(cron = "${weather.cache.refresh-ahead-cron:0 50 23 * * *}")
+    public void refreshAhead() {
+        try {
+            refresh(LocalDate.now().plusDays(2).atStartOfDay());
+        } catch (ServerException e) {
+            log.warn("Weather refresh-ahead failed, keep serving cached data: {}", e.getMessage());
+        }
+    }
+
+    public WeatherCacheStats getCacheStats() {
+        return new WeatherCacheStats(
+                hitCount.get(),
+                staleHitCount.get(),
+                missCount.get(),
+                refreshCount.get(),
+                refreshFailureCount.get(),
+                fallbackCount.get(),
+                circuitBreaker.getState().name(),
+                weatherByDate.size(),
+                loadedAt,
+                expiresAt.equals(LocalDateTime.MIN) ? null : expiresAt
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh(LocalDate.now().plusDays(1).atStartOfDay());
+        } catch (ServerException e) {
+            log.warn("Weather refresh failed, keep serving stale data: {}", e.getMessage());
+        }
+    }
+
+    // 외부 API 장애 시 설정된 기본 날씨로 대체 (비어 있으면 기존처럼 예외)
+    private String fallback(String reason) {
+        if (!StringUtils.hasText(fallbackWeather)) {
+            throw new ServerException(reason);
+        }
+        fallbackCount.incrementAndGet();
+        log.warn("Weather unavailable, use fallback '{}': {}", fallbackWeather, reason);
+        return fallbackWeather;
+    }
+
+    private void refresh(LocalDateTime newExpiresAt) {
+        // 한 번에 하나의 호출만 외부 API 로 나가고, 나머지는 제한된 시간만 기다린다 (bulkhead)
+        if (!tryLock()) {
+            throw new ServerException("날씨 데이터를 가져오는 요청이 지연되고 있습니다.");
+        }
+        try {
+            // 락을 기다리는 동안 다른 스레드가 이미 갱신했으면 다시 호출하지 않는다.
+            if (!expiresAt.isBefore(newExpiresAt) && weatherByDate.containsKey(getCurrentDate())) {
+                return;
+            }
+
+            refreshCount.incrementAndGet();
+            Map<String, String> loaded = circuitBreaker.executeSupplier(this::fetchWeatherByDate);
+
+            weatherByDate = loaded;
+            loadedAt = LocalDateTime.now();
+            expiresAt = newExpiresAt;
+        } catch (CallNotPermittedException e) {
+            refreshFailureCount.incrementAndGet();
+            throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+        } catch (RuntimeException e) {
+            refreshFailureCount.incrementAndGet();
+            throw e instanceof ServerException serverException
+                    ? serverException
+                    : new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean tryLock() {
+        try {
+            return refreshLock.tryLock(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,15 +209,13 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> loaded = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                loaded.put(weatherDto.getDate(), weatherDto.getWeather());
             }
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return Map.copyOf(loaded);
     }
 
     private URI buildWeatherApiUri() {
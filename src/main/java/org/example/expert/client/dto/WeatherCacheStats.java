@@ -0,0 +1,35 @@
+package org.example.expert.client.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class WeatherCacheStats {
+
+    private final long hitCount;
+    private final long staleHitCount;
+    private final long missCount;
+    private final long refreshCount;
+    private final long refreshFailureCount;
+    private final long fallbackCount;
+    private final String circuitBreakerState;
+    private final int cachedDates;
+    private final LocalDateTime loadedAt;
+    private final LocalDateTime expiresAt;
+
+    public WeatherCacheStats(long hitCount, long staleHitCount, long missCount, long refreshCount,
+                             long refreshFailureCount, long fallbackCount, String circuitBreakerState,
+                             int cachedDates, LocalDateTime loadedAt, LocalDateTime expiresAt) {
+        this.hitCount = hitCount;
+        this.staleHitCount = staleHitCount;
+        this.missCount = missCount;
+        this.refreshCount = refreshCount;
+        this.refreshFailureCount = refreshFailureCount;
+        this.fallbackCount = fallbackCount;
+        this.circuitBreakerState = circuitBreakerState;
+        this.cachedDates = cachedDates;
+        this.loadedAt = loadedAt;
+        this.expiresAt = expiresAt;
+    }
+}
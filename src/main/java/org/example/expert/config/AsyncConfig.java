@@ -0,0 +1,21 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+// @Async 와 MVC 비동기 처리(StreamingResponseBody 등)는 Spring Boot 의 applicationTaskExecutor 에서 실행된다.
+// Java 21 에서 spring.threads.virtual.enabled=true 로 띄우면 Tomcat 요청 처리와 이 executor 가 모두 가상 스레드를 사용한다.
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // SecurityContextHolder 는 스레드(ThreadLocal) 단위라서 다른 스레드로 넘어가면 인증 정보가 사라진다.
+    // 작업을 제출한 스레드의 SecurityContext 를 실행 스레드에 옮겨 주고, 끝나면 정리한다.
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
+}
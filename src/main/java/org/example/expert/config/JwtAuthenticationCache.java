@@ -0,0 +1,83 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 검증이 끝난 토큰의 AuthUser 를 토큰 만료 시각까지 보관 (같은 토큰의 서명 검증/파싱 반복 방지)
+@Component
+public class JwtAuthenticationCache {
+
+    private static final long MAX_TTL_MILLIS = 60 * 60 * 1000L; // exp 가 없는 토큰은 최대 60분
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtAuthenticationCache(JwtUtil jwtUtil, @Value("${jwt.cache.maximum-size:100000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long ttlMillis = Math.min(value.expiresAtMillis() - System.currentTimeMillis(), MAX_TTL_MILLIS);
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 캐시에 없으면 서명 검증 후 저장. 검증 실패 시 JwtUtil 의 예외가 그대로 전달되고 캐시되지 않는다.
+    public AuthUser getAuthUser(String token) {
+        return cache.get(digest(token), key -> verify(token)).authUser();
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtUtil.extractClaims(token);
+
+        AuthUser authUser = new AuthUser(
+                Long.valueOf(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("nickname", String.class),
+                UserRole.of(claims.get("userRole", String.class))
+        );
+        long expiresAtMillis = claims.getExpiration() == null
+                ? System.currentTimeMillis() + MAX_TTL_MILLIS
+                : claims.getExpiration().getTime();
+        return new VerifiedToken(authUser, expiresAtMillis);
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용 (메모리에 bearer 토큰을 그대로 보관하지 않도록)
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(AuthUser authUser, long expiresAtMillis) {
+    }
+}
@@ -1,16 +1,69 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Component
 public class PasswordEncoder {
 
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final int cost;
+
+    public PasswordEncoder(
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${security.password.bcrypt-cost:4}") int cost
+    ) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다.");
+        }
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.cost = cost;
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return passwordHashingExecutor.execute(() -> hash(rawPassword));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> verify(rawPassword, encodedPassword));
+    }
+
+    // 대량 등록용: 여러 비밀번호를 해싱 스레드풀에서 나눠서 인코딩 (입력 순서 유지)
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(passwordHashingExecutor.submitOrRun(() -> hash(rawPassword)));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    // 백그라운드 재해싱용: 요청 스레드는 기다리지 않는다. (큐가 가득 차면 실패한 future)
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return passwordHashingExecutor.submit(() -> hash(rawPassword));
+    }
+
+    // 저장된 해시의 cost 가 설정된 cost 보다 낮으면 다시 해싱이 필요하다. ($2a$04$... 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private String hash(String rawPassword) {
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+    }
+
+    private static boolean verify(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
@@ -0,0 +1,133 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.PasswordHashingStats;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// bcrypt 처럼 CPU 를 오래 쓰는 해싱 작업 전용 스레드풀
+// 스레드 수와 대기 큐 크기를 제한해서 로그인이 몰려도 해싱이 CPU 전체를 점유하지 못하게 하고, 초과 요청은 바로 거절한다.
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    // 대량 작업이 큐를 채워서 로그인/가입이 503 이 되지 않도록, 대량 작업이 동시에 올릴 수 있는 작업 수를 제한
+    private final Semaphore bulkPermits;
+    private final long timeoutMs;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+
+    public PasswordHashingExecutor(
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:200}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-ms:3000}") long timeoutMs,
+            @Value("${security.password.hashing.bulk-max-in-flight:0}") int bulkMaxInFlight
+    ) {
+        // 0 이면 CPU 코어 수만큼
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+        // 0 이면 스레드 수만큼 (대기 중인 대량 작업이 스레드 수를 넘지 않아 요청 작업의 대기 시간이 짧게 유지된다)
+        this.bulkPermits = new Semaphore(Math.min(bulkMaxInFlight > 0 ? bulkMaxInFlight : poolSize, queueCapacity));
+    }
+
+    // 요청 처리용: 큐가 가득 찼거나 제한 시간 안에 끝나지 않으면 503
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOutCount.incrementAndGet();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("요청 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 백그라운드 작업용: 큐가 가득 차면 기다리지 않고 실패한 future 를 반환
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 대량 작업용: 동시에 올린 작업 수가 한도를 넘거나 큐가 가득 차면 호출한 스레드에서 직접 실행 (거절 대신 호출한 쪽의 속도를 늦춤)
+    public <T> CompletableFuture<T> submitOrRun(Supplier<T> task) {
+        if (bulkPermits.tryAcquire()) {
+            try {
+                return CompletableFuture.supplyAsync(task, executor).whenComplete((result, e) -> bulkPermits.release());
+            } catch (RejectedExecutionException e) {
+                bulkPermits.release();
+            }
+        }
+        callerRunsCount.incrementAndGet();
+        return CompletableFuture.completedFuture(task.get());
+    }
+
+    public PasswordHashingStats getStats() {
+        return new PasswordHashingStats(
+                executor.getPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                executor.getCompletedTaskCount(),
+                rejectedCount.get(),
+                timedOutCount.get(),
+                callerRunsCount.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -3,6 +3,9 @@ package org.example.expert.config;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -18,4 +21,18 @@ public class PersistenceConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
+
+    // id_sequences(pooled-lo) 로 id 를 미리 할당받으므로 insert/update 를 JDBC 배치로 묶을 수 있다.
+    // EntityManagerFactory 생성 전에 필요하므로 static (이 설정 클래스의 EntityManager 주입과 순환되지 않도록)
+    @Bean
+    public static HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer(
+            @Value("${persistence.jdbc.batch-size:100}") int batchSize
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
 }
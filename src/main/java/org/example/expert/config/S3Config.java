@@ -2,11 +2,18 @@ package org.example.expert.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class S3Config {
@@ -16,13 +23,47 @@ public class S3Config {
     private String secretKey;
     @Value("${cloud.aws.region.static}")
     private String region;
+    // MinIO, LocalStack 같은 로컬 S3 대체 서버 주소 (비어 있으면 AWS 사용)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.multipart.threshold-bytes:16777216}")
+    private long multipartThresholdBytes;
+    @Value("${cloud.aws.s3.multipart.part-size-bytes:5242880}")
+    private long multipartPartSizeBytes;
+    @Value("${cloud.aws.s3.multipart.threads:4}")
+    private int multipartThreads;
 
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials= new BasicAWSCredentials(accessKey, secretKey);
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+        if (StringUtils.hasText(endpoint)) {
+            // 로컬 S3 는 버킷 이름 서브도메인을 지원하지 않는 경우가 많아서 path-style 로 접근
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
+        return (AmazonS3Client) builder.build();
+    }
+
+    // threshold 이상인 파일은 part 단위로 나눠 여러 스레드에서 동시에 업로드한다.
+    // part 업로드 스레드 수를 제한해서 동시에 큰 파일이 몰려도 메모리 / 커넥션 사용량이 일정하게 유지된다.
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(multipartThresholdBytes)
+                .withMinimumUploadPartSize(multipartPartSizeBytes)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(multipartThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "s3-transfer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }))
                 .build();
     }
 }
@@ -1,5 +1,6 @@
 package org.example.expert.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.context.annotation.Bean;
@@ -34,6 +35,9 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable) // BasicAuthenticationFilter 비활성화
                 .logout(AbstractHttpConfigurer::disable) // LogoutFilter 비활성화
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(StreamingResponseBody)의 재디스패치와 에러 디스패치는 원래 요청에서 이미 인가를 통과했다.
+                        // JWT 필터는 이 디스패치에서 다시 실행되지 않으므로 인증 정보가 없어 막히지 않도록 허용한다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/auth/signin", "/auth/signup", "/api/health").permitAll()
                         .requestMatchers("/admin/**").hasAuthority(UserRole.Authority.ADMIN)
                         .anyRequest().authenticated()
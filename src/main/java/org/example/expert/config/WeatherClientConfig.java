@@ -0,0 +1,84 @@
+package org.example.expert.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class WeatherClientConfig {
+
+    @Value("${weather.client.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+    @Value("${weather.client.read-timeout-ms:2000}")
+    private long readTimeoutMs;
+    @Value("${weather.client.connection-request-timeout-ms:500}")
+    private long connectionRequestTimeoutMs;
+    @Value("${weather.client.max-connections:10}")
+    private int maxConnections;
+
+    @Value("${weather.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+    @Value("${weather.circuit-breaker.sliding-window-size:10}")
+    private int slidingWindowSize;
+    @Value("${weather.circuit-breaker.wait-duration-in-open-state-seconds:30}")
+    private long waitDurationInOpenStateSeconds;
+
+    // keep-alive 커넥션 풀 + 타임아웃이 있는 HttpClient (느린 외부 API 가 요청 스레드를 붙잡지 않도록)
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient weatherHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate weatherRestTemplate(RestTemplateBuilder builder, CloseableHttpClient weatherHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(weatherHttpClient))
+                .build();
+    }
+
+    // 연속 실패 시 일정 시간 동안 외부 API 호출 자체를 차단
+    @Bean
+    public CircuitBreaker weatherCircuitBreaker() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(5, slidingWindowSize))
+                .waitDurationInOpenState(Duration.ofSeconds(waitDurationInOpenStateSeconds))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build();
+        return CircuitBreaker.of("weather", config);
+    }
+}
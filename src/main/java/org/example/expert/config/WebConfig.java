@@ -0,0 +1,19 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${web.async.request-timeout-ms:600000}")
+    private long asyncRequestTimeoutMs;
+
+    // 스트리밍 응답(todo export 등)은 비동기로 처리되므로, 서블릿 컨테이너 기본값(30초)보다 길게 허용
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeoutMs);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -9,12 +10,20 @@ import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.example.expert.domain.search.service.SearchIndexService;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.example.expert.domain.user.service.UserResponseCache;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,12 +32,21 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final SearchIndexService searchIndexService;
+    private final UserResponseCache userResponseCache;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // bcrypt 해싱은 해싱 스레드풀에서 최대 timeout 까지 기다릴 수 있으므로, 그동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // Bloom filter 가 확실히 없다고 하면 중복 확인 조회를 생략 (동시에 같은 email 로 가입하는 경우는 unique 제약으로 막는다)
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            emailBloomFilter.recordFalsePositive();
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -41,14 +59,29 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        // 트랜잭션은 INSERT (+ 검색 색인) 에만 사용
+        User savedUser;
+        try {
+            savedUser = transactionTemplate.execute(status -> {
+                User saved = userRepository.saveAndFlush(newUser);
+                searchIndexService.index(SearchTarget.USER_NICKNAME, saved.getId(), saved.getNickname());
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        emailBloomFilter.put(savedUser.getEmail());
+        userResponseCache.evict(savedUser.getId(), savedUser.getNickname());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname(),userRole);
 
         return new SignupResponse(bearerToken);
     }
 
+    // 비밀번호 검증을 기다리는 동안 읽기 트랜잭션(DB 커넥션)을 잡고 있지 않도록 트랜잭션 없이 실행 (조회만 짧게 사용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
+        // Bloom filter 는 다른 서버 가입자나 JDBC 로 넣은 유저가 늦게 반영되므로 로그인은 항상 DB 로 확인한다.
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
@@ -57,8 +90,27 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        upgradePasswordHashIfNeeded(user, signinRequest.getPassword());
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
     }
+
+    // 설정된 cost 보다 약한 해시는 로그인 성공 시 백그라운드에서 다시 해싱 (로그인 응답은 기다리지 않음)
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        String oldPassword = user.getPassword();
+        if (!passwordEncoder.needsRehash(oldPassword)) {
+            return;
+        }
+
+        Long userId = user.getId();
+        passwordEncoder.encodeAsync(rawPassword)
+                .thenAccept(newPassword -> userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword))
+                .exceptionally(e -> {
+                    // 실패해도 다음 로그인 때 다시 시도된다.
+                    log.warn("Password rehash failed. userId: {}, reason: {}", userId, e.getMessage());
+                    return null;
+                });
+    }
 }
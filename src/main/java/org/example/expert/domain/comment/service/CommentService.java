@@ -39,6 +39,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.updateCommentCount(todo.getId(), 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
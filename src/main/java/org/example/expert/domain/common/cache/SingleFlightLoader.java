@@ -0,0 +1,49 @@
+package org.example.expert.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// 같은 key 의 조회는 한 번만 실행하고, 동시에 들어온 나머지 요청은 그 결과를 기다린다.
+// Cache.get(key, loader) 는 loader 가 끝날 때까지 ConcurrentHashMap 의 bin lock(synchronized)을 잡고 있어서
+// 그 안에서 DB 조회를 하면 가상 스레드가 carrier 스레드에 고정(pinning)된다.
+// 그래서 future 로 자리만 먼저 잡고, 조회는 lock 밖에서 호출한 스레드가 직접 실행한다. (트랜잭션 등 스레드 컨텍스트도 유지)
+public final class SingleFlightLoader {
+
+    private SingleFlightLoader() {
+    }
+
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = loader.get();
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 예외(또는 null)로 끝난 future 는 AsyncCache 가 제거하므로 실패 결과는 캐시에 남지 않는다.
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.LatencyRecordingAspect;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.dto.WeatherCacheStats;
+import org.example.expert.config.PasswordHashingExecutor;
+import org.example.expert.domain.common.dto.LatencyStats;
+import org.example.expert.domain.common.dto.PasswordHashingStats;
+import org.example.expert.domain.log.dto.AuditLogStats;
+import org.example.expert.domain.log.service.AuditLogWriter;
+import org.example.expert.domain.user.dto.response.EmailFilterStats;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/metrics")
+public class AdminMetricsController {
+
+    private final WeatherClient weatherClient;
+    private final AuditLogWriter auditLogWriter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final EmailBloomFilter emailBloomFilter;
+    private final LatencyRecordingAspect latencyRecordingAspect;
+
+    @GetMapping("/weather")
+    public ResponseEntity<WeatherCacheStats> getWeatherCacheStats() {
+        return ResponseEntity.ok(weatherClient.getCacheStats());
+    }
+
+    @GetMapping("/audit-log")
+    public ResponseEntity<AuditLogStats> getAuditLogStats() {
+        return ResponseEntity.ok(auditLogWriter.getStats());
+    }
+
+    @GetMapping("/password-hashing")
+    public ResponseEntity<PasswordHashingStats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashingExecutor.getStats());
+    }
+
+    @GetMapping("/email-filter")
+    public ResponseEntity<EmailFilterStats> getEmailFilterStats() {
+        return ResponseEntity.ok(emailBloomFilter.getStats());
+    }
+
+    @GetMapping("/latency")
+    public ResponseEntity<List<LatencyStats>> getLatencyStats() {
+        return ResponseEntity.ok(latencyRecordingAspect.getStats());
+    }
+
+    @DeleteMapping("/latency")
+    public void resetLatencyStats() {
+        latencyRecordingAspect.reset();
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+@Getter
+public class LatencyStats {
+
+    private final String method;
+    private final long count;
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p95Ms;
+    private final double p99Ms;
+    private final double maxMs;
+
+    public LatencyStats(String method, long count, double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+        this.method = method;
+        this.count = count;
+        this.meanMs = meanMs;
+        this.p50Ms = p50Ms;
+        this.p95Ms = p95Ms;
+        this.p99Ms = p99Ms;
+        this.maxMs = maxMs;
+    }
+}
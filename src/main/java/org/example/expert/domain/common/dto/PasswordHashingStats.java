@@ -0,0 +1,28 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PasswordHashingStats {
+
+    private final int poolSize;
+    private final int activeCount;
+    private final int queueSize;
+    private final int queueCapacity;
+    private final long completedCount;
+    private final long rejectedCount;
+    private final long timedOutCount;
+    private final long callerRunsCount;
+
+    public PasswordHashingStats(int poolSize, int activeCount, int queueSize, int queueCapacity,
+                                long completedCount, long rejectedCount, long timedOutCount, long callerRunsCount) {
+        this.poolSize = poolSize;
+        this.activeCount = activeCount;
+        this.queueSize = queueSize;
+        this.queueCapacity = queueCapacity;
+        this.completedCount = completedCount;
+        this.rejectedCount = rejectedCount;
+        this.timedOutCount = timedOutCount;
+        this.callerRunsCount = callerRunsCount;
+    }
+}
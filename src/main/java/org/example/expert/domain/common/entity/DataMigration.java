@@ -0,0 +1,21 @@
+package org.example.expert.domain.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 한 번만 실행하면 되는 데이터 보정 작업(컬럼 추가 후 backfill 등)의 완료 기록
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "data_migrations")
+public class DataMigration {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    private LocalDateTime completedAt;
+}
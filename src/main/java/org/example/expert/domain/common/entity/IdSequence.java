@@ -0,0 +1,21 @@
+package org.example.expert.domain.common.entity;
+
+// 엔티티 id 를 IDENTITY 대신 id_sequences 테이블에서 블록 단위로 할당받기 위한 상수 (pooled-lo)
+// IDENTITY 는 insert 즉시 id 를 받아야 해서 Hibernate 의 JDBC 배치 insert 가 꺼진다.
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    // sequence_name 값 (각 엔티티의 테이블 이름과 동일)
+    public static final String USERS = "users";
+    public static final String TODOS = "todos";
+    public static final String COMMENTS = "comments";
+    public static final String MANAGERS = "managers";
+    public static final String LOG = "log";
+
+    private IdSequence() {
+    }
+}
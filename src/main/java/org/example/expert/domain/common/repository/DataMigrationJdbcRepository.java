@@ -0,0 +1,32 @@
+package org.example.expert.domain.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class DataMigrationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isCompleted(String name) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM data_migrations WHERE name = ?", Integer.class, name);
+        return count != null && count > 0;
+    }
+
+    // 여러 서버가 동시에 끝낸 경우 먼저 기록한 쪽만 남는다.
+    public void markCompleted(String name) {
+        try {
+            jdbcTemplate.update("INSERT INTO data_migrations (name, completed_at) VALUES (?, ?)",
+                    name, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // 이미 기록됨
+        }
+    }
+}
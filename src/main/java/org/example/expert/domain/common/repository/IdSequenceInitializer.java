@@ -0,0 +1,27 @@
+package org.example.expert.domain.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.entity.IdSequence;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 스키마가 준비된 뒤, 요청을 받기 전에 id_sequences 를 기존 데이터에 맞춰 둔다.
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final List<String> SEQUENCES = List.of(
+            IdSequence.USERS, IdSequence.TODOS, IdSequence.COMMENTS, IdSequence.MANAGERS, IdSequence.LOG
+    );
+
+    private final IdSequenceJdbcRepository idSequenceJdbcRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String sequenceName : SEQUENCES) {
+            idSequenceJdbcRepository.alignWithMaxId(sequenceName, sequenceName);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.entity.IdSequence;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// JDBC 로 직접 insert 하는 곳(감사 로그, 대량 등록 등)에서 Hibernate 와 같은 id_sequences 를 사용하기 위한 저장소
+// next_val 에는 Hibernate 기본 설정(hibernate.id.generator.stored_last_used)과 같이 "마지막으로 할당된 id" 가 저장된다.
+@Repository
+@RequiredArgsConstructor
+public class IdSequenceJdbcRepository {
+
+    private static final String SELECT_FOR_UPDATE_SQL =
+            "SELECT " + IdSequence.VALUE_COLUMN + " FROM " + IdSequence.TABLE
+                    + " WHERE " + IdSequence.NAME_COLUMN + " = ? FOR UPDATE";
+    private static final String UPDATE_SQL =
+            "UPDATE " + IdSequence.TABLE + " SET " + IdSequence.VALUE_COLUMN + " = ?"
+                    + " WHERE " + IdSequence.NAME_COLUMN + " = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO " + IdSequence.TABLE + " (" + IdSequence.NAME_COLUMN + ", " + IdSequence.VALUE_COLUMN + ") VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // size 개의 연속된 id 를 예약하고 첫 id 를 반환한다. (row lock 을 오래 잡지 않도록 별도 트랜잭션)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String sequenceName, int size) {
+        List<Long> current = jdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, Long.class, sequenceName);
+        long lastId = current.isEmpty() ? 0L : current.get(0);
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update(INSERT_SQL, sequenceName, lastId + size);
+        } else {
+            jdbcTemplate.update(UPDATE_SQL, lastId + size, sequenceName);
+        }
+        return lastId + 1;
+    }
+
+    // IDENTITY 로 쌓인 기존 데이터와 겹치지 않도록 next_val 을 max(id) 이상으로 맞춘다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void alignWithMaxId(String sequenceName, String tableName) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tableName, Long.class);
+        long required = maxId == null ? 0L : maxId;
+
+        List<Long> current = jdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, Long.class, sequenceName);
+        if (current.isEmpty()) {
+            jdbcTemplate.update(INSERT_SQL, sequenceName, required);
+        } else if (current.get(0) < required) {
+            jdbcTemplate.update(UPDATE_SQL, required, sequenceName);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.image.controller;
 import com.amazonaws.services.s3.AmazonS3Client;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.image.enums.ProfileImageVariant;
 import org.example.expert.domain.image.service.ImageService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -35,8 +36,10 @@ public class ImageController {
     }
 
     @GetMapping("/users/images")
-    public ResponseEntity<?> getUserProfileImage(@AuthenticationPrincipal AuthUser authUser) {
-        String profileImageUrl = imageService.getUserProfileImage(authUser.getId());
+    public ResponseEntity<?> getUserProfileImage(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) ProfileImageVariant size) {
+        String profileImageUrl = imageService.getUserProfileImage(authUser.getId(), size);
         return ResponseEntity.ok(profileImageUrl);
     }
 }
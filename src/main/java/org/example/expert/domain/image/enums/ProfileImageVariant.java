@@ -0,0 +1,21 @@
+package org.example.expert.domain.image.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 프로필 이미지 썸네일 크기 (긴 변 기준 px)
+@Getter
+@RequiredArgsConstructor
+public enum ProfileImageVariant {
+
+    SMALL(64),
+    MEDIUM(256);
+
+    private final int size;
+
+    // 원본 key 옆에 크기를 붙여 저장 (profile/1/abc.png -> profile/1/abc_64.png)
+    public String keyOf(String originalKey) {
+        int dotIndex = originalKey.lastIndexOf(".");
+        return originalKey.substring(0, dotIndex) + "_" + size + originalKey.substring(dotIndex);
+    }
+}
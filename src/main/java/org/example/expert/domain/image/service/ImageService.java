@@ -1,30 +1,35 @@
 package org.example.expert.domain.image.service;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.util.IOUtils;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.image.enums.ProfileImageVariant;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserResponseCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageService {
@@ -32,21 +37,30 @@ public class ImageService {
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
     private final UserRepository userRepository;
+    private final UserResponseCache userResponseCache;
+    private final ProfileImageProcessor profileImageProcessor;
+    private final TransactionTemplate transactionTemplate;
 
     public String upload(MultipartFile image) {
+        validateImage(image);
+        String s3FileName = UUID.randomUUID().toString().substring(0, 10) + image.getOriginalFilename(); //변경된 파일 명
+        //uploadImage를 호출하여 S3에 저장된 이미지의 public url을 반환한다.
+        return this.uploadImage(image, s3FileName);
+    }
+
+    private void validateImage(MultipartFile image) {
         //입력받은 이미지 파일이 빈 파일인지 검증
         if(image == null || image.isEmpty() || Objects.isNull(image.getOriginalFilename())){
             throw new InvalidRequestException("empty_file");
         }
-        //uploadImage를 호출하여 S3에 저장된 이미지의 public url을 반환한다.
-        return this.uploadImage(image);
+        this.validateImageFileExtension(image.getOriginalFilename());
     }
 
-    private String uploadImage(MultipartFile image) {
-        this.validateImageFileExtension(image.getOriginalFilename());
+    private String uploadImage(MultipartFile image, String s3FileName) {
         try {
-            return this.uploadImageToS3(image);
+            return this.uploadImageToS3(image, s3FileName);
         } catch (IOException e) {
             throw new InvalidRequestException("image upload exception");
         }
@@ -66,40 +80,56 @@ public class ImageService {
         }
     }
 
-    private String uploadImageToS3(MultipartFile image) throws IOException {
-        String originalFilename = image.getOriginalFilename(); //원본 파일 명
-        String extension = originalFilename.substring(originalFilename.lastIndexOf(".")); //확장자 명
-
-        String s3FileName = UUID.randomUUID().toString().substring(0, 10) + originalFilename; //변경된 파일 명
-
-        InputStream is = image.getInputStream();
-        byte[] bytes = IOUtils.toByteArray(is); //image를 byte[]로 변환
+    private String uploadImageToS3(MultipartFile image, String s3FileName) throws IOException {
+        String extension = s3FileName.substring(s3FileName.lastIndexOf(".") + 1).toLowerCase(); //확장자 명
 
         ObjectMetadata metadata = new ObjectMetadata(); //metadata 생성
-        metadata.setContentType("image/" + extension);
-        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentTypeOf(extension));
+        metadata.setContentLength(image.getSize());
+
+        try {
+            if (image.getSize() >= transferManager.getConfiguration().getMultipartUploadThreshold()) {
+                uploadMultipart(image, s3FileName, extension, metadata);
+            } else {
+                // 파일 전체를 byte[] 로 읽지 않고, 길이를 알려준 채로 요청 본문에 바로 흘려 보낸다.
+                try (InputStream is = image.getInputStream()) {
+                    PutObjectRequest putObjectRequest =
+                            new PutObjectRequest(bucketName, s3FileName, is, metadata)
+                                    .withCannedAcl(CannedAccessControlList.PublicRead);
+                    amazonS3Client.putObject(putObjectRequest); // put image to S3
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidRequestException("s3 upload 오류");
+        } catch (AmazonClientException e) {
+            log.error("S3 upload failed. key: {}", s3FileName, e);
+            throw new InvalidRequestException("s3 upload 오류");
+        }
 
-        //S3에 요청할 때 사용할 byteInputStream 생성
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
+        return amazonS3Client.getUrl(bucketName, s3FileName).toString();
+    }
 
-        try{
-            //S3로 putObject 할 때 사용할 요청 객체
-            //생성자 : bucket 이름, 파일 명, byteInputStream, metadata
+    // 큰 파일은 임시 파일로 옮긴 뒤 TransferManager 로 part 를 나눠 병렬 업로드한다.
+    // transferTo(File) 는 Part.write 를 사용해서 Tomcat 이 디스크에 저장해 둔 파일을 가능하면 rename 으로 옮긴다.
+    // (transferTo(Path) 는 항상 스트림으로 복사하므로 사용하지 않는다)
+    private void uploadMultipart(MultipartFile image, String s3FileName, String extension, ObjectMetadata metadata)
+            throws IOException, InterruptedException {
+        Path tempFile = Files.createTempFile("s3-upload-", "." + extension);
+        try {
+            image.transferTo(tempFile.toFile());
             PutObjectRequest putObjectRequest =
-                    new PutObjectRequest(bucketName, s3FileName, byteArrayInputStream, metadata)
+                    new PutObjectRequest(bucketName, s3FileName, tempFile.toFile())
+                            .withMetadata(metadata)
                             .withCannedAcl(CannedAccessControlList.PublicRead);
-
-            //실제로 S3에 이미지 데이터를 넣는 부분이다.
-            amazonS3Client.putObject(putObjectRequest); // put image to S3
-        }catch (Exception e){
-            e.printStackTrace();
-            throw new InvalidRequestException("s3 upload 오류");
-        }finally {
-            byteArrayInputStream.close();
-            is.close();
+            transferManager.upload(putObjectRequest).waitForCompletion();
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
+    }
 
-        return amazonS3Client.getUrl(bucketName, s3FileName).toString();
+    private String contentTypeOf(String extension) {
+        return "png".equals(extension) ? "image/png" : "image/jpeg";
     }
 
     public void deleteImageFromS3(String imageUrl) {
@@ -114,7 +144,8 @@ public class ImageService {
         }
     }
 
-    public String getUserProfileImage(Long userId) {
+    // size 를 주면 해당 크기의 썸네일 URL, 없으면 저장된 프로필 URL (썸네일이 만들어지기 전에는 원본)
+    public String getUserProfileImage(Long userId, ProfileImageVariant size) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("not found user"));
 
@@ -124,41 +155,89 @@ public class ImageService {
             throw new InvalidRequestException("profile image not exist");
         }
 
-        return profileImageUrl;
+        // 썸네일 처리가 끝난 이미지만 크기별 URL 을 만들 수 있다. (처리 중이거나 이전 방식으로 올린 이미지는 저장된 URL)
+        String profileImageKey = user.getProfileImageKey();
+        if (size == null || profileImageKey == null
+                || !profileImageUrl.equals(profileImageProcessor.urlOf(ProfileImageVariant.MEDIUM.keyOf(profileImageKey)))) {
+            return profileImageUrl;
+        }
+        return profileImageProcessor.urlOf(size.keyOf(profileImageKey));
     }
 
-    private String extractFileNameFromUrl(String imageUrl) throws UnsupportedEncodingException {
+    private String extractFileNameFromUrl(String imageUrl) {
         String fileName = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
 
         // URL 디코딩을 통해 한글 또는 특수 문자가 포함된 파일 이름 처리
         return URLDecoder.decode(fileName, StandardCharsets.UTF_8);
     }
 
-    @Transactional
+    // S3 업로드는 트랜잭션 밖에서 먼저 끝내고, DB 는 프로필 URL 을 바꾸는 짧은 트랜잭션에만 사용한다.
+    // 썸네일은 ProfileImageProcessor 가 백그라운드에서 만든 뒤 프로필 URL 을 썸네일로 바꾼다.
     public String uploadUserProfileImage(Long userId, MultipartFile image) {
-        String profileImageUrl = upload(image); // 이미지 업로드 후 URL 반환
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("not found user"));
+        validateImage(image);
+        String originalFilename = image.getOriginalFilename();
+        String extension = originalFilename.substring(originalFilename.lastIndexOf(".") + 1).toLowerCase();
+        String profileImageKey = "profile/" + userId + "/" + UUID.randomUUID() + "." + extension;
+
+        String profileImageUrl = uploadImage(image, profileImageKey); // 이미지 업로드 후 URL 반환
+
+        String previousKey;
+        try {
+            previousKey = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new InvalidRequestException("not found user"));
+
+                String replacedKey = profileImageKeyOf(user);
+                user.updateProfileImage(profileImageUrl, profileImageKey); // 유저 프로필 이미지 업데이트
+                userResponseCache.evict(user.getId(), user.getNickname());
+                return replacedKey;
+            });
+        } catch (RuntimeException e) {
+            // 프로필로 저장하지 못한 업로드는 정리
+            profileImageProcessor.deleteLater(profileImageKey);
+            throw e;
+        }
 
-        user.updateProfileImage(profileImageUrl); // 유저 프로필 이미지 업데이트
+        if (previousKey != null) {
+            profileImageProcessor.deleteLater(previousKey);
+        }
+        profileImageProcessor.submit(userId, profileImageKey);
         return profileImageUrl;
     }
 
-    @Transactional
     public void deleteUserProfileImage(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("not found user"));
-
-        String profileImageUrl = user.getProfileImageUrl();
+        String profileImageKey = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new InvalidRequestException("not found user"));
 
-        if (profileImageUrl != null && !profileImageUrl.isEmpty()) {
-            // S3에서 이미지 삭제
-            deleteImageFromS3(profileImageUrl);
+            String currentKey = profileImageKeyOf(user);
+            if (currentKey == null) {
+                throw new InvalidRequestException("profile image not exist");
+            }
 
             // 유저의 프로필 이미지 URL 제거
-            user.updateProfileImage(null);
-        } else {
-            throw new InvalidRequestException("profile image not exist");
+            user.updateProfileImage(null, null);
+            userResponseCache.evict(user.getId(), user.getNickname());
+            return currentKey;
+        });
+
+        // S3에서 원본과 썸네일 삭제 (DB 에서는 이미 지워졌으므로 실패해도 요청은 성공으로 처리)
+        try {
+            profileImageProcessor.deleteWithVariants(profileImageKey);
+        } catch (Exception e) {
+            log.warn("Failed to delete profile image from S3. key: {}", profileImageKey, e);
+        }
+    }
+
+    // 이전 방식으로 올린 이미지는 key 가 없으므로 URL 에서 파일 이름을 꺼낸다.
+    private String profileImageKeyOf(User user) {
+        if (user.getProfileImageKey() != null) {
+            return user.getProfileImageKey();
+        }
+        String profileImageUrl = user.getProfileImageUrl();
+        if (profileImageUrl == null || profileImageUrl.isEmpty()) {
+            return null;
         }
+        return extractFileNameFromUrl(profileImageUrl);
     }
 }
@@ -0,0 +1,217 @@
+package org.example.expert.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.image.enums.ProfileImageVariant;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserResponseCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드된 프로필 원본으로 썸네일(64 / 256 px)을 만들고, 다 만들어지면 유저의 프로필 URL 을 256 px 썸네일로 바꾼다.
+// 디코딩 / 리사이즈는 CPU 와 메모리를 많이 쓰므로 스레드 수와 대기 큐를 제한한 전용 스레드풀에서 실행한다.
+@Slf4j
+@Component
+public class ProfileImageProcessor {
+
+    private final AmazonS3Client amazonS3Client;
+    private final UserRepository userRepository;
+    private final UserResponseCache userResponseCache;
+    private final String bucketName;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ProfileImageProcessor(
+            AmazonS3Client amazonS3Client,
+            UserRepository userRepository,
+            UserResponseCache userResponseCache,
+            @Value("${cloud.aws.s3.bucket}") String bucketName,
+            @Value("${image.thumbnail.threads:2}") int threads,
+            @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity,
+            @Value("${image.thumbnail.max-pixels:40000000}") long maxPixels
+    ) {
+        this.amazonS3Client = amazonS3Client;
+        this.userRepository = userRepository;
+        this.userResponseCache = userResponseCache;
+        this.bucketName = bucketName;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "profile-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 큐가 가득 차면 썸네일 없이 원본 URL 을 그대로 사용한다.
+    public void submit(Long userId, String originalKey) {
+        try {
+            executor.execute(() -> {
+                try {
+                    process(userId, originalKey);
+                } catch (Exception e) {
+                    log.error("Profile image processing failed. userId: {}, key: {}", userId, originalKey, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Profile image queue is full, keep the original image. userId: {}, key: {}", userId, originalKey);
+        }
+    }
+
+    // 교체된 이전 이미지 정리 (실패해도 요청에는 영향 없음)
+    public void deleteLater(String originalKey) {
+        try {
+            executor.execute(() -> {
+                try {
+                    deleteWithVariants(originalKey);
+                } catch (Exception e) {
+                    log.warn("Failed to delete previous profile image. key: {}", originalKey, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Profile image queue is full, skip deleting previous image. key: {}", originalKey);
+        }
+    }
+
+    // 원본과 모든 썸네일을 한 번의 요청으로 삭제 (없는 key 는 무시된다)
+    public void deleteWithVariants(String originalKey) {
+        List<DeleteObjectsRequest.KeyVersion> keys = new ArrayList<>();
+        keys.add(new DeleteObjectsRequest.KeyVersion(originalKey));
+        for (ProfileImageVariant variant : ProfileImageVariant.values()) {
+            keys.add(new DeleteObjectsRequest.KeyVersion(variant.keyOf(originalKey)));
+        }
+        amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(keys).withQuiet(true));
+    }
+
+    public String urlOf(String key) {
+        return amazonS3Client.getUrl(bucketName, key).toString();
+    }
+
+    void process(Long userId, String originalKey) throws IOException {
+        BufferedImage original;
+        try (S3Object object = amazonS3Client.getObject(bucketName, originalKey);
+             InputStream is = object.getObjectContent()) {
+            original = decode(is);
+        }
+        if (original == null) {
+            log.warn("Unsupported or too large profile image, keep the original. key: {}", originalKey);
+            return;
+        }
+
+        String extension = originalKey.substring(originalKey.lastIndexOf(".") + 1);
+        for (ProfileImageVariant variant : ProfileImageVariant.values()) {
+            byte[] bytes = encode(resize(original, variant.getSize(), extension), extension);
+
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType("png".equals(extension) ? "image/png" : "image/jpeg");
+            metadata.setContentLength(bytes.length);
+            amazonS3Client.putObject(
+                    new PutObjectRequest(bucketName, variant.keyOf(originalKey), new ByteArrayInputStream(bytes), metadata)
+                            .withCannedAcl(CannedAccessControlList.PublicRead));
+        }
+
+        String thumbnailUrl = urlOf(ProfileImageVariant.MEDIUM.keyOf(originalKey));
+        if (userRepository.updateProfileImageUrlIfCurrent(userId, originalKey, thumbnailUrl) == 0) {
+            // 처리하는 사이에 다른 이미지로 바뀌었거나 삭제됐으면 이번 결과물은 정리한다.
+            deleteWithVariants(originalKey);
+            return;
+        }
+        userResponseCache.evict(userId, null);
+    }
+
+    // 픽셀 수를 먼저 확인해서 너무 큰 이미지(압축 폭탄 등)는 디코딩하지 않는다.
+    private BufferedImage decode(InputStream is) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(is)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 size 가 되도록 비율을 유지해서 축소 (작은 이미지는 키우지 않음)
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄여 가다가 마지막에 목표 크기로 맞춘다.
+    private BufferedImage resize(BufferedImage original, int size, String extension) {
+        double scale = Math.min(1.0, (double) size / Math.max(original.getWidth(), original.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(original.getHeight() * scale));
+        // JPEG 는 투명도를 지원하지 않으므로 흰 배경으로 채운다.
+        int imageType = "png".equals(extension) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = original;
+        int width = original.getWidth();
+        int height = original.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, imageType);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height,
+                        imageType == BufferedImage.TYPE_INT_RGB ? Color.WHITE : null, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, String extension) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png".equals(extension) ? "png" : "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.log.dto;
+
+import lombok.Getter;
+
+@Getter
+public class AuditLogStats {
+
+    private final long enqueuedCount;
+    private final long writtenCount;
+    private final long callerRunsCount;
+    private final long droppedCount;
+    private final long failedCount;
+    private final int queueSize;
+
+    public AuditLogStats(long enqueuedCount, long writtenCount, long callerRunsCount,
+                         long droppedCount, long failedCount, int queueSize) {
+        this.enqueuedCount = enqueuedCount;
+        this.writtenCount = writtenCount;
+        this.callerRunsCount = callerRunsCount;
+        this.droppedCount = droppedCount;
+        this.failedCount = failedCount;
+        this.queueSize = queueSize;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.log.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.IdSequence;
 import org.example.expert.domain.common.entity.Timestamped;
 
 @Getter
@@ -10,7 +11,10 @@ import org.example.expert.domain.common.entity.Timestamped;
 @NoArgsConstructor
 public class Log extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "log_id")
+    @TableGenerator(name = "log_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = IdSequence.LOG,
+            allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private long requestUserId;
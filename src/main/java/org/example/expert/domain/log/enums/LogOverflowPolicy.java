@@ -0,0 +1,8 @@
+package org.example.expert.domain.log.enums;
+
+public enum LogOverflowPolicy {
+
+    CALLER_RUNS, // 큐가 가득 차면 요청 스레드에서 바로 저장 (유실 없음)
+    BLOCK,       // 일정 시간 동안 큐에 자리가 날 때까지 대기 후, 그래도 없으면 버림
+    DROP         // 큐가 가득 차면 바로 버림
+}
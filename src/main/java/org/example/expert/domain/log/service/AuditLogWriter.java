@@ -0,0 +1,225 @@
+package org.example.expert.domain.log.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.entity.IdSequence;
+import org.example.expert.domain.common.repository.IdSequenceJdbcRepository;
+import org.example.expert.domain.log.dto.AuditLogStats;
+import org.example.expert.domain.log.enums.LogOverflowPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 요청 스레드는 큐에 넣기만 하고, 백그라운드 스레드가 모아서 JDBC 배치로 저장한다.
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO log (id, request_user_id, manager_user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSequenceJdbcRepository idSequenceJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingLog> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final LogOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final long shutdownTimeoutMs;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public AuditLogWriter(
+            JdbcTemplate jdbcTemplate,
+            IdSequenceJdbcRepository idSequenceJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${log.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${log.writer.batch-size:500}") int batchSize,
+            @Value("${log.writer.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${log.writer.overflow-policy:CALLER_RUNS}") LogOverflowPolicy overflowPolicy,
+            @Value("${log.writer.block-timeout-ms:100}") long blockTimeoutMs,
+            @Value("${log.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSequenceJdbcRepository = idSequenceJdbcRepository;
+        // 큐가 가득 찼거나 종료 중일 때는 요청 스레드에서 바로 저장하는데, 호출한 쪽 트랜잭션이 롤백돼도 로그는 남아야 하므로 항상 새 트랜잭션
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    public void enqueue(long requestUserId, long managerUserId, long todoId) {
+        PendingLog pendingLog = new PendingLog(requestUserId, managerUserId, todoId, LocalDateTime.now());
+
+        // 애플리케이션 종료 중이면 바로 저장
+        if (!running) {
+            writeNow(pendingLog);
+            return;
+        }
+
+        if (queue.offer(pendingLog)) {
+            enqueuedCount.incrementAndGet();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case CALLER_RUNS -> writeNow(pendingLog);
+            case BLOCK -> offerWithTimeout(pendingLog);
+            case DROP -> drop(pendingLog);
+        }
+    }
+
+    public AuditLogStats getStats() {
+        return new AuditLogStats(
+                enqueuedCount.get(),
+                writtenCount.get(),
+                callerRunsCount.get(),
+                droppedCount.get(),
+                failedCount.get(),
+                queue.size()
+        );
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-log-writer");
+        worker.start();
+    }
+
+    // 종료 시 큐에 남은 로그를 모두 저장할 때까지 기다린다.
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버보다 먼저 시작하고 나중에 종료되도록 (종료 중 들어온 요청의 로그도 저장)
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 배치 크기가 찰 때까지, 또는 첫 로그 이후 flush 주기가 지날 때까지 모은다.
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingMs = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remainingMs <= 0 || !running) {
+                        break;
+                    }
+                    PendingLog next = queue.poll(remainingMs, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void flush(List<PendingLog> batch) {
+        try {
+            // 배치 크기만큼 id 를 한 번에 예약
+            long id = idSequenceJdbcRepository.reserve(IdSequence.LOG, batch.size());
+            List<Object[]> batchArgs = new ArrayList<>(batch.size());
+            for (PendingLog pendingLog : batch) {
+                batchArgs.add(pendingLog.toArgs(id++));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+            writtenCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            log.error("Failed to write {} audit logs", batch.size(), e);
+        }
+    }
+
+    private void writeNow(PendingLog pendingLog) {
+        callerRunsCount.incrementAndGet();
+        flush(List.of(pendingLog));
+    }
+
+    private void offerWithTimeout(PendingLog pendingLog) {
+        try {
+            if (queue.offer(pendingLog, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                enqueuedCount.incrementAndGet();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drop(pendingLog);
+    }
+
+    private void drop(PendingLog pendingLog) {
+        droppedCount.incrementAndGet();
+        log.warn("Audit log queue is full, dropped log. requestUserId: {}, managerUserId: {}, todoId: {}",
+                pendingLog.requestUserId(), pendingLog.managerUserId(), pendingLog.todoId());
+    }
+
+    private record PendingLog(long requestUserId, long managerUserId, long todoId, LocalDateTime createdAt) {
+
+        Object[] toArgs(long id) {
+            Timestamp timestamp = Timestamp.valueOf(createdAt);
+            return new Object[]{id, requestUserId, managerUserId, todoId, timestamp, timestamp};
+        }
+    }
+}
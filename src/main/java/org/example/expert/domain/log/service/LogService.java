@@ -1,20 +1,15 @@
 package org.example.expert.domain.log.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.log.entity.Log;
-import org.example.expert.domain.log.repository.LogRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class LogService {
-    private final LogRepository logRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 요청 트랜잭션과 무관하게 저장되도록 비동기 writer 에 위임 (별도 커넥션/트랜잭션을 열지 않음)
     public void saveLog(long requestUserId, long managerUserId, long todoId) {
-        Log log = new Log(requestUserId, managerUserId, todoId);
-        logRepository.save(log);
+        auditLogWriter.enqueue(requestUserId, managerUserId, todoId);
     }
 }
@@ -60,6 +60,7 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.updateManagerCount(todo.getId(), 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -103,5 +104,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.updateManagerCount(todo.getId(), -1);
     }
 }
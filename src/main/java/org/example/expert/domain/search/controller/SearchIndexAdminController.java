@@ -0,0 +1,20 @@
+package org.example.expert.domain.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchIndexAdminController {
+
+    private final SearchIndexService searchIndexService;
+
+    @PostMapping("/admin/search/reindex")
+    public ResponseEntity<String> rebuildSearchIndex() {
+        searchIndexService.rebuildAsync();
+        return ResponseEntity.accepted().body("검색 색인 재생성을 시작했습니다.");
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.search.enums.SearchTarget;
+
+import java.time.LocalDateTime;
+
+// 대상별로 마지막으로 끝까지 만든 전체 색인의 버전 (이 행이 없으면 색인이 비어 있거나 만드는 중)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "search_index_versions")
+public class SearchIndexVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SearchTarget target;
+
+    @Column(nullable = false)
+    private int version;
+
+    private LocalDateTime completedAt;
+}
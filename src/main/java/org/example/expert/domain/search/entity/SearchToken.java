@@ -0,0 +1,30 @@
+package org.example.expert.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.search.enums.SearchTarget;
+
+// 제목/닉네임의 n-gram 토큰 역색인 (PK 순서 = 조회 순서라서 토큰 조회가 PK 범위 스캔이 된다)
+@Getter
+@Entity
+@NoArgsConstructor
+@IdClass(SearchTokenId.class)
+@Table(name = "search_tokens", indexes = {
+        @Index(name = "idx_search_tokens_target_id", columnList = "target, target_id")
+})
+public class SearchToken {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SearchTarget target;
+
+    @Id
+    @Column(length = 12) // 3 code point (서로게이트 쌍 포함) 를 담을 수 있는 길이
+    private String token;
+
+    @Id
+    @Column(name = "target_id")
+    private Long targetId;
+}
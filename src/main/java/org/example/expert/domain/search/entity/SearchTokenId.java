@@ -0,0 +1,16 @@
+package org.example.expert.domain.search.entity;
+
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.search.enums.SearchTarget;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@EqualsAndHashCode
+public class SearchTokenId implements Serializable {
+
+    private SearchTarget target;
+    private String token;
+    private Long targetId;
+}
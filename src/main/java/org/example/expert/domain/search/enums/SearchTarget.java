@@ -0,0 +1,15 @@
+package org.example.expert.domain.search.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchTarget {
+
+    TODO_TITLE(1),
+    USER_NICKNAME(2); // 2: 닉네임을 정규화한 뒤 토큰화
+
+    // 토큰을 만드는 방식이 바뀌면 올린다. 저장된 버전과 다르면 시작 시 전체 색인을 다시 만든다.
+    private final int indexVersion;
+}
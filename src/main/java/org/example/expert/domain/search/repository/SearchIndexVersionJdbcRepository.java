@@ -0,0 +1,39 @@
+package org.example.expert.domain.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexVersionJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<SearchTarget, Integer> findAll() {
+        Map<SearchTarget, Integer> versions = new EnumMap<>(SearchTarget.class);
+        jdbcTemplate.query("SELECT target, version FROM search_index_versions", rs -> {
+            versions.put(SearchTarget.valueOf(rs.getString(1)), rs.getInt(2));
+        });
+        return versions;
+    }
+
+    // MySQL / H2 공통으로 쓰기 위해 UPDATE 후 행이 없으면 INSERT
+    public void save(SearchTarget target, int version) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE search_index_versions SET version = ?, completed_at = ? WHERE target = ?",
+                version, now, target.name());
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO search_index_versions (target, version, completed_at) VALUES (?, ?, ?)",
+                    target.name(), version, now);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchTokenJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO search_tokens (target, token, target_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // targetId -> 토큰 목록을 한 번의 JDBC 배치로 저장 (복합 PK 라서 JPA save 시 merge 용 SELECT 가 발생하므로 JDBC 사용)
+    public void batchInsert(SearchTarget target, Map<Long, Set<String>> tokensByTargetId) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        tokensByTargetId.forEach((targetId, tokens) -> {
+            for (String token : tokens) {
+                batchArgs.add(new Object[]{target.name(), token, targetId});
+            }
+        });
+
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        }
+    }
+
+    public void deleteByTargetIds(SearchTarget target, Collection<Long> targetIds) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long targetId : targetIds) {
+            batchArgs.add(new Object[]{target.name(), targetId});
+        }
+
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM search_tokens WHERE target = ? AND target_id = ?", batchArgs);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.expert.domain.search.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.example.expert.domain.search.repository.SearchIndexVersionJdbcRepository;
+import org.example.expert.domain.search.repository.SearchTokenJdbcRepository;
+import org.example.expert.domain.search.tokenizer.NGramTokenizer;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class SearchIndexService {
+
+    private final SearchTokenJdbcRepository searchTokenJdbcRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchIndexVersionJdbcRepository searchIndexVersionJdbcRepository;
+    private final SearchIndexStatus searchIndexStatus;
+    private final TaskExecutor taskExecutor;
+    private final int rebuildChunkSize;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public SearchIndexService(
+            SearchTokenJdbcRepository searchTokenJdbcRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            SearchIndexVersionJdbcRepository searchIndexVersionJdbcRepository,
+            SearchIndexStatus searchIndexStatus,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${search.index.rebuild-chunk-size:1000}") int rebuildChunkSize
+    ) {
+        this.searchTokenJdbcRepository = searchTokenJdbcRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.searchIndexVersionJdbcRepository = searchIndexVersionJdbcRepository;
+        this.searchIndexStatus = searchIndexStatus;
+        this.taskExecutor = taskExecutor;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @Transactional
+    public void index(SearchTarget target, Long targetId, String text) {
+        indexAll(target, Map.of(targetId, text));
+    }
+
+    // 기존 토큰을 지우고 새 토큰으로 교체 (호출한 쪽의 트랜잭션에 함께 묶인다)
+    @Transactional
+    public void indexAll(SearchTarget target, Map<Long, String> textByTargetId) {
+        Map<Long, Set<String>> tokensByTargetId = new LinkedHashMap<>();
+        textByTargetId.forEach((targetId, text) -> tokensByTargetId.put(targetId, tokenize(target, text)));
+
+        searchTokenJdbcRepository.deleteByTargetIds(target, textByTargetId.keySet());
+        searchTokenJdbcRepository.batchInsert(target, tokensByTargetId);
+    }
+
+    // 새로 저장된 대상이라 지울 토큰이 없는 경우 (대량 등록 등)
+    @Transactional
+    public void indexNew(SearchTarget target, Map<Long, String> textByTargetId) {
+        Map<Long, Set<String>> tokensByTargetId = new LinkedHashMap<>();
+        textByTargetId.forEach((targetId, text) -> tokensByTargetId.put(targetId, tokenize(target, text)));
+
+        searchTokenJdbcRepository.batchInsert(target, tokensByTargetId);
+    }
+
+    // 색인이 어긋난 경우 전체를 다시 만든다 (백그라운드 실행, 기존 색인은 청크 단위로 교체되므로 검색은 계속 색인을 사용)
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new InvalidRequestException("이미 검색 색인을 다시 만드는 중입니다.");
+        }
+
+        taskExecutor.execute(() -> {
+            try {
+                for (SearchTarget target : SearchTarget.values()) {
+                    rebuild(target, fullChunkSql(target));
+                    searchIndexVersionJdbcRepository.save(target, target.getIndexVersion());
+                    searchIndexStatus.markReady(target);
+                }
+            } catch (Exception e) {
+                log.error("Search index rebuild failed", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    // 시작 시 색인 상태 확인
+    // - 색인 도입 이전 데이터거나 토큰화 방식이 바뀌었으면(버전 불일치) 전체를 다시 만들고, 끝날 때까지 검색은 색인 없이 동작한다.
+    // - 버전이 맞으면 서비스를 거치지 않고 들어온 행(JDBC 직접 insert 등) 중 토큰이 없는 행만 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOutdatedAsync() {
+        refreshStatus();
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        taskExecutor.execute(() -> {
+            try {
+                for (SearchTarget target : SearchTarget.values()) {
+                    if (searchIndexStatus.isReady(target)) {
+                        rebuild(target, missingChunkSql(target));
+                        continue;
+                    }
+                    rebuild(target, fullChunkSql(target));
+                    searchIndexVersionJdbcRepository.save(target, target.getIndexVersion());
+                    searchIndexStatus.markReady(target);
+                }
+            } catch (Exception e) {
+                log.error("Search index rebuild failed, searches keep working without the index", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    // 다른 서버가 색인을 다 만든 경우에도 이 서버가 색인을 사용하도록 주기적으로 확인
+    @Scheduled(fixedDelayString = "${search.index.status-refresh-ms:60000}")
+    public void refreshStatus() {
+        if (searchIndexStatus.isAllReady()) {
+            return;
+        }
+        Map<SearchTarget, Integer> versions = searchIndexVersionJdbcRepository.findAll();
+        for (SearchTarget target : SearchTarget.values()) {
+            if (Integer.valueOf(target.getIndexVersion()).equals(versions.get(target))) {
+                searchIndexStatus.markReady(target);
+            }
+        }
+    }
+
+    // 닉네임은 검색 조건과 같은 방식(NFKC + trim + 소문자)으로 정규화한 뒤 토큰화
+    private Set<String> tokenize(SearchTarget target, String text) {
+        if (target == SearchTarget.USER_NICKNAME) {
+            return NGramTokenizer.tokenize(User.normalizeNickname(text));
+        }
+        return NGramTokenizer.tokenize(text);
+    }
+
+    private String fullChunkSql(SearchTarget target) {
+        return sourceSql(target) + " WHERE t.id > ? ORDER BY t.id LIMIT ?";
+    }
+
+    private String missingChunkSql(SearchTarget target) {
+        return sourceSql(target) + " WHERE t.id > ?"
+                + " AND NOT EXISTS (SELECT 1 FROM search_tokens s WHERE s.target = '" + target.name() + "' AND s.target_id = t.id)"
+                + " ORDER BY t.id LIMIT ?";
+    }
+
+    private String sourceSql(SearchTarget target) {
+        return switch (target) {
+            case TODO_TITLE -> "SELECT t.id, t.title FROM todos t";
+            case USER_NICKNAME -> "SELECT t.id, t.nickname FROM users t";
+        };
+    }
+
+    private void rebuild(SearchTarget target, String chunkSql) {
+        long lastId = 0;
+        long indexed = 0;
+
+        while (true) {
+            Map<Long, String> chunk = new LinkedHashMap<>();
+            jdbcTemplate.query(chunkSql, rs -> {
+                chunk.put(rs.getLong(1), rs.getString(2));
+            }, lastId, rebuildChunkSize);
+
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            // 청크마다 짧은 트랜잭션으로 나눠서 커밋
+            transactionTemplate.executeWithoutResult(status -> indexAll(target, chunk));
+
+            for (Long id : chunk.keySet()) {
+                lastId = id;
+            }
+            indexed += chunk.size();
+        }
+        log.info("Search index rebuild finished. target: {}, rows: {}", target, indexed);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.search.service;
+
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 대상별 색인이 현재 버전으로 끝까지 만들어졌는지 (아니면 검색 시 색인으로 후보를 좁히지 않는다)
+@Component
+public class SearchIndexStatus {
+
+    private final Set<SearchTarget> readyTargets = ConcurrentHashMap.newKeySet();
+
+    public boolean isReady(SearchTarget target) {
+        return readyTargets.contains(target);
+    }
+
+    void markReady(SearchTarget target) {
+        readyTargets.add(target);
+    }
+
+    boolean isAllReady() {
+        return readyTargets.size() == SearchTarget.values().length;
+    }
+}
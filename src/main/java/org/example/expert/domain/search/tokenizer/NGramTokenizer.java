@@ -0,0 +1,47 @@
+package org.example.expert.domain.search.tokenizer;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+public final class NGramTokenizer {
+
+    public static final int GRAM_SIZE = 3;
+
+    private NGramTokenizer() {
+    }
+
+    // 색인용 토큰: 3글자 단위로 자르고, 3글자보다 짧으면 전체를 하나의 토큰으로 사용
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        int[] codePoints = normalize(text).codePoints().toArray();
+        if (codePoints.length < GRAM_SIZE) {
+            tokens.add(new String(codePoints, 0, codePoints.length));
+            return tokens;
+        }
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return tokens;
+    }
+
+    // 검색어가 3글자 미만이면 색인으로 후보를 좁힐 수 없으므로 빈 집합을 반환
+    public static Set<String> queryTokens(String keyword) {
+        if (keyword == null) {
+            return Set.of();
+        }
+        String normalized = normalize(keyword);
+        if (normalized.codePointCount(0, normalized.length()) < GRAM_SIZE) {
+            return Set.of();
+        }
+        return tokenize(keyword);
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
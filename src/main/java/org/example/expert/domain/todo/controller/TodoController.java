@@ -6,14 +6,21 @@ import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.TodoGetCondition;
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.enums.TodoCountPolicy;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -22,6 +29,7 @@ import java.time.LocalDate;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -32,16 +40,30 @@ public class TodoController {
     }
 
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Slice<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String weather,
             @RequestParam(required = false) LocalDate start,
-            @RequestParam(required = false) LocalDate end
+            @RequestParam(required = false) LocalDate end,
+            @RequestParam(defaultValue = "EXACT") TodoCountPolicy countPolicy
             ) {
         TodoGetCondition condition = new TodoGetCondition(weather, start, end);
 
-        return ResponseEntity.ok(todoService.getTodos(page, size, condition));
+        return ResponseEntity.ok(todoService.getTodos(page, size, condition, countPolicy));
+    }
+
+    @GetMapping("/todos/scroll")
+    public ResponseEntity<TodoCursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) LocalDate start,
+            @RequestParam(required = false) LocalDate end
+    ) {
+        TodoGetCondition condition = new TodoGetCondition(weather, start, end);
+
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, condition));
     }
 
     @GetMapping("/todos/{todoId}")
@@ -50,15 +72,47 @@ public class TodoController {
     }
 
     @GetMapping("/todos/search")
-    public ResponseEntity<Page<TodoSearchResponse>> getTodoResults(
+    public ResponseEntity<Slice<TodoSearchResponse>> getTodoResults(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) LocalDate start,
             @RequestParam(required = false) LocalDate end,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(defaultValue = "EXACT") TodoCountPolicy countPolicy
+    ) {
+        TodoSearchCondition condition = new TodoSearchCondition(keyword, start, end, nickname);
+        return ResponseEntity.ok(todoService.searchTodos(page, size, condition, countPolicy));
+    }
+
+    @GetMapping("/todos/search/scroll")
+    public ResponseEntity<TodoCursorResponse<TodoSearchResponse>> getTodoResultsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) LocalDate start,
+            @RequestParam(required = false) LocalDate end,
             @RequestParam(required = false) String nickname
     ) {
         TodoSearchCondition condition = new TodoSearchCondition(keyword, start, end, nickname);
-        return ResponseEntity.ok(todoService.searchTodos(page, size, condition));
+        return ResponseEntity.ok(todoService.searchTodosByCursor(cursor, size, condition));
+    }
+
+    // 검색 조건에 맞는 전체 todo 를 페이지 없이 한 번에 내려받는다. (한 행씩 읽어서 바로 응답에 씀)
+    @GetMapping("/todos/search/export")
+    public ResponseEntity<StreamingResponseBody> exportTodoResults(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) LocalDate start,
+            @RequestParam(required = false) LocalDate end,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(defaultValue = "NDJSON") TodoExportFormat format
+    ) {
+        TodoSearchCondition condition = new TodoSearchCondition(keyword, start, end, nickname);
+        StreamingResponseBody body = outputStream -> todoExportService.export(condition, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + format.getExtension() + "\"")
+                .body(body);
     }
 }
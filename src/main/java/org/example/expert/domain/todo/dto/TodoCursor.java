@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime timestamp; // 정렬 기준 시각 (modifiedAt 또는 createdAt)
+    private final Long id;                 // 같은 시각일 때 순서를 결정하는 tie-breaker
+
+    public TodoCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    // 클라이언트에게는 내부 구조를 알 수 없는 불투명한 토큰으로 전달한다.
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.valueOf(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
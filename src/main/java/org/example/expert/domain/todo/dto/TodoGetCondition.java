@@ -5,8 +5,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 
 @Getter
 @Setter
@@ -17,4 +20,14 @@ public class TodoGetCondition {
     String weather;
     LocalDate start;
     LocalDate end;
+
+    // 조회 조건과 COUNT 캐시 키는 모두 앞뒤 공백을 제거한 날씨 값을 사용한다. (공백만 있으면 조건 없음)
+    public String getNormalizedWeather() {
+        return StringUtils.hasText(weather) ? weather.trim() : null;
+    }
+
+    // COUNT 캐시 키 (정규화한 조건 값이 모두 같으면 같은 키)
+    public List<Object> toCacheKey() {
+        return Arrays.asList("get", getNormalizedWeather(), start, end);
+    }
 }
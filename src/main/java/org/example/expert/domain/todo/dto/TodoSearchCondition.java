@@ -1,8 +1,12 @@
 package org.example.expert.domain.todo.dto;
 
 import lombok.*;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 
 @Getter
 @Setter
@@ -14,4 +18,19 @@ public class TodoSearchCondition {
     LocalDate start;
     LocalDate end;
     String nickname;
+
+    // 검색 조건과 COUNT 캐시 키는 모두 아래의 정규화된 값을 사용한다. (공백만 있으면 조건 없음)
+    public String getNormalizedKeyword() {
+        return StringUtils.hasText(keyword) ? keyword.trim() : null;
+    }
+
+    public String getNormalizedNickname() {
+        String normalized = User.normalizeNickname(nickname);
+        return StringUtils.hasLength(normalized) ? normalized : null;
+    }
+
+    // COUNT 캐시 키 (정규화한 조건 값이 모두 같으면 같은 키 -> "Kim", " kim " 은 같은 COUNT 결과를 공유)
+    public List<Object> toCacheKey() {
+        return Arrays.asList("search", getNormalizedKeyword(), start, end, getNormalizedNickname());
+    }
 }
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor; // 다음 페이지 요청 시 전달할 cursor (마지막 페이지면 null)
+    private final boolean hasNext;
+
+    public TodoCursorResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String weather;
+    private final String nickname;
+    private final long managerCount;
+    private final long commentCount;
+    private final LocalDateTime createdAt;
+
+    public TodoExportRow(Long id, String title, String weather, String nickname,
+                         long managerCount, long commentCount, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.weather = weather;
+        this.nickname = nickname;
+        this.managerCount = managerCount;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+    }
+}
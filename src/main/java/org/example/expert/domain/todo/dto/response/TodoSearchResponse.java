@@ -2,15 +2,21 @@ package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class TodoSearchResponse {
+    private final Long id;
     private final String title;
     private final long managerCount;
     private final long commentCount;
+    private final LocalDateTime createdAt;
 
-    public TodoSearchResponse(String title, long managerCount, long commentCount) {
+    public TodoSearchResponse(Long id, String title, long managerCount, long commentCount, LocalDateTime createdAt) {
+        this.id = id;
         this.title = title;
         this.managerCount = managerCount;
         this.commentCount = commentCount;
+        this.createdAt = createdAt;
     }
 }
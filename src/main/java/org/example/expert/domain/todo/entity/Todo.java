@@ -3,10 +3,12 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.IdSequence;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,15 +16,31 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather, modified_at, id"), // 날씨 + 수정일 조회
+        @Index(name = "idx_todos_modified_at", columnList = "modified_at, id"),                   // 수정일 조회/정렬
+        @Index(name = "idx_todos_created_at", columnList = "created_at, id")                      // 생성일 검색/정렬
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todos_id")
+    @TableGenerator(name = "todos_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = IdSequence.TODOS,
+            allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 검색 시 상관 서브쿼리 대신 읽어 가는 비정규화 카운터 (TodoCounterReconciler 가 주기적으로 보정)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -44,5 +62,6 @@ public class Todo extends Timestamped {
     public void addManager(User user) {
         Manager manager = new Manager(user, this);
         this.managers.add(manager);
+        this.managerCount++;
     }
 }
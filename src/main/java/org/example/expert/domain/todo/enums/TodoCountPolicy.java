@@ -0,0 +1,8 @@
+package org.example.expert.domain.todo.enums;
+
+public enum TodoCountPolicy {
+
+    EXACT,  // 매 요청마다 COUNT 쿼리 실행 (필요 없는 경우는 생략)
+    CACHED, // 짧은 TTL 캐시에 저장된 COUNT 결과 사용
+    NONE    // COUNT 쿼리 없이 다음 페이지 존재 여부만 확인 (Slice)
+}
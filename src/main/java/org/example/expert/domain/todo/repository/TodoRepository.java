@@ -1,13 +1,33 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryQuery {
+
+    // 엔티티를 dirty 상태로 만들지 않도록 (modifiedAt 갱신 방지) 벌크 UPDATE 로 증감
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int updateManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int updateCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE todos t SET " +
+            "manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+            "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int reconcileCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
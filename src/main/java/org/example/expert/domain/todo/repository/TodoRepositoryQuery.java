@@ -1,19 +1,39 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.TodoGetCondition;
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepositoryQuery {
 
-    Page<Todo> findTodosByCondition(TodoGetCondition condition, Pageable pageable);
+    Page<TodoResponse> findTodosByCondition(TodoGetCondition condition, Pageable pageable);
+
+    Slice<TodoResponse> findTodoSliceByCondition(TodoGetCondition condition, Pageable pageable);
+
+    long countTodosByCondition(TodoGetCondition condition);
 
     Page<TodoSearchResponse> searchTodos(TodoSearchCondition condition, Pageable pageable);
 
+    Slice<TodoSearchResponse> searchTodoSlice(TodoSearchCondition condition, Pageable pageable);
+
+    long countSearchTodos(TodoSearchCondition condition);
+
     Optional<Todo> findByIdWithUser(Long todoId);
+
+    List<TodoResponse> findTodosByConditionAfter(TodoGetCondition condition, TodoCursor cursor, int limit);
+
+    List<TodoSearchResponse> searchTodosAfter(TodoSearchCondition condition, TodoCursor cursor, int limit);
+
+    Stream<TodoExportRow> streamSearchTodos(TodoSearchCondition condition, int fetchSize);
 }
@@ -1,118 +1,144 @@
 package org.example.expert.domain.todo.repository;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.comment.entity.QComment;
-import org.example.expert.domain.manager.entity.QManager;
+import org.example.expert.domain.search.entity.QSearchToken;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.example.expert.domain.search.service.SearchIndexStatus;
+import org.example.expert.domain.search.tokenizer.NGramTokenizer;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.TodoGetCondition;
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.QTodo;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.QUser;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
 
     private final JPAQueryFactory queryFactory;
+    private final SearchIndexStatus searchIndexStatus;
 
     @Override
-    public Page<Todo> findTodosByCondition(TodoGetCondition condition, Pageable pageable) {
+    public Page<TodoResponse> findTodosByCondition(TodoGetCondition condition, Pageable pageable) {
         QTodo todo = QTodo.todo;
-        QUser user = QUser.user;
 
-        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder builder = getConditionPredicate(condition);
 
-        if (condition.getWeather() != null) {
-            builder.and(todo.weather.eq(condition.getWeather()));
-        }
-        if (condition.getStart() != null) {
-            builder.and(todo.modifiedAt.goe(condition.getStart().atStartOfDay())); // 수정일 기준 시작일
-        }
-        if (condition.getEnd() != null) {
-            builder.and(todo.modifiedAt.loe(condition.getEnd().atTime(23, 59, 59))); // 수정일 기준 종료일
-        }
-
-        List<Todo> results = queryFactory
-                .selectFrom(todo)
-                .leftJoin(todo.user, user).fetchJoin()
+        // 1단계: 인덱스만으로 페이지에 해당하는 id 조회
+        List<Long> ids = queryFactory
+                .select(todo.id)
+                .from(todo)
                 .where(builder)
-                .orderBy(todo.modifiedAt.desc()) // 수정일 기준 내림차순 정렬
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc()) // 수정일 기준 내림차순 정렬
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = queryFactory
-                .selectFrom(todo)
-                .where(builder)
-                .fetchCount();
+        // 2단계: 해당 id 의 행만 유저와 함께 DTO 로 조회
+        List<TodoResponse> results = findTodoResponsesByIds(ids);
+
+        // 마지막 페이지처럼 전체 수를 알 수 있는 경우에는 COUNT 쿼리를 생략
+        return PageableExecutionUtils.getPage(results, pageable, () -> countTodosByCondition(condition));
+    }
 
-        return new PageImpl<>(results, pageable, total);
+    @Override
+    public Slice<TodoResponse> findTodoSliceByCondition(TodoGetCondition condition, Pageable pageable) {
+        QTodo todo = QTodo.todo;
+
+        List<Long> ids = queryFactory
+                .select(todo.id)
+                .from(todo)
+                .where(getConditionPredicate(condition))
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1) // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+                .fetch();
+
+        return toSlice(findTodoResponsesByIds(ids), pageable);
+    }
+
+    @Override
+    public long countTodosByCondition(TodoGetCondition condition) {
+        QTodo todo = QTodo.todo;
+
+        Long total = queryFactory
+                .select(todo.count())
+                .from(todo)
+                .where(getConditionPredicate(condition))
+                .fetchOne();
+        return total == null ? 0 : total;
     }
 
     @Override
     public Page<TodoSearchResponse> searchTodos(TodoSearchCondition condition, Pageable pageable) {
         QTodo todo = QTodo.todo;
         QUser user = QUser.user;
-        QManager manager = QManager.manager;
-        QComment comment = QComment.comment;
-
-        BooleanBuilder builder = new BooleanBuilder();
 
-        if (condition.getKeyword() != null) {
-            builder.and(todo.title.contains(condition.getKeyword()));
-        }
-        if (condition.getStart() != null) {
-            builder.and(todo.createdAt.goe(condition.getStart().atStartOfDay())); // 생성일 기준 시작일
-        }
-        if (condition.getEnd() != null) {
-            builder.and(todo.createdAt.loe(condition.getEnd().atTime(23, 59, 59))); // 생성일 기준 종료일
-        }
-        if (condition.getNickname() != null) {
-            builder.and(todo.user.nickname.contains(condition.getNickname()));
-        }
+        BooleanBuilder builder = searchConditionPredicate(condition);
 
         List<TodoSearchResponse> results = queryFactory
-                .select(
-                        Projections.constructor(TodoSearchResponse.class,
-                                todo.title,
-                                ExpressionUtils.as(JPAExpressions
-                                        .select(manager.count())
-                                        .from(manager)
-                                        .where(manager.todo.eq(todo)), "managerCount"), // manager count
-                                ExpressionUtils.as(JPAExpressions
-                                        .select(comment.count())
-                                        .from(comment)
-                                        .where(comment.todo.eq(todo)), "commentCount")  // comment count
-                        )
-                )
+                .select(searchProjection())
                 .from(todo)
                 .leftJoin(todo.user, user)
                 .where(builder)
-                .groupBy(todo.id)
-                .orderBy(todo.createdAt.desc()) // 생성일 기준 내림차순 정렬
+                .orderBy(todo.createdAt.desc(), todo.id.desc()) // 생성일 기준 내림차순 정렬
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 전체 데이터 수를 구하는 쿼리
-        long total = queryFactory
+        // 전체 데이터 수를 구하는 쿼리 (필요한 경우에만 실행)
+        return PageableExecutionUtils.getPage(results, pageable, () -> countSearchTodos(condition));
+    }
+
+    @Override
+    public Slice<TodoSearchResponse> searchTodoSlice(TodoSearchCondition condition, Pageable pageable) {
+        QTodo todo = QTodo.todo;
+        QUser user = QUser.user;
+
+        List<TodoSearchResponse> results = queryFactory
+                .select(searchProjection())
+                .from(todo)
+                .leftJoin(todo.user, user)
+                .where(searchConditionPredicate(condition))
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1) // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+                .fetch();
+
+        return toSlice(results, pageable);
+    }
+
+    @Override
+    public long countSearchTodos(TodoSearchCondition condition) {
+        QTodo todo = QTodo.todo;
+
+        Long total = queryFactory
                 .select(todo.count())
                 .from(todo)
-                .where(builder)
+                .where(searchConditionPredicate(condition))
                 .fetchOne();
-
-        return new PageImpl<>(results, pageable, total);
+        return total == null ? 0 : total;
     }
 
     @Override
@@ -129,4 +155,182 @@ public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public List<TodoResponse> findTodosByConditionAfter(TodoGetCondition condition, TodoCursor cursor, int limit) {
+        QTodo todo = QTodo.todo;
+
+        BooleanBuilder builder = getConditionPredicate(condition);
+        if (cursor != null) {
+            // (modifiedAt, id) 가 cursor 보다 작은 행부터 조회 (offset 없이 인덱스를 따라 바로 탐색)
+            builder.and(todo.modifiedAt.lt(cursor.getTimestamp())
+                    .or(todo.modifiedAt.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId()))));
+        }
+
+        List<Long> ids = queryFactory
+                .select(todo.id)
+                .from(todo)
+                .where(builder)
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+
+        return findTodoResponsesByIds(ids);
+    }
+
+    @Override
+    public List<TodoSearchResponse> searchTodosAfter(TodoSearchCondition condition, TodoCursor cursor, int limit) {
+        QTodo todo = QTodo.todo;
+        QUser user = QUser.user;
+
+        BooleanBuilder builder = searchConditionPredicate(condition);
+        if (cursor != null) {
+            // (createdAt, id) 가 cursor 보다 작은 행부터 조회
+            builder.and(todo.createdAt.lt(cursor.getTimestamp())
+                    .or(todo.createdAt.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId()))));
+        }
+
+        return queryFactory
+                .select(searchProjection())
+                .from(todo)
+                .leftJoin(todo.user, user)
+                .where(builder)
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 검색 조건에 맞는 전체 todo 를 한 번의 쿼리로 읽는다. (forward-only 커서로 fetchSize 만큼씩 가져옴, 호출한 쪽에서 close 필요)
+    @Override
+    public Stream<TodoExportRow> streamSearchTodos(TodoSearchCondition condition, int fetchSize) {
+        QTodo todo = QTodo.todo;
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(Projections.constructor(TodoExportRow.class,
+                        todo.id,
+                        todo.title,
+                        todo.weather,
+                        user.nickname,
+                        todo.managerCount,
+                        todo.commentCount,
+                        todo.createdAt
+                ))
+                .from(todo)
+                .leftJoin(todo.user, user)
+                .where(searchConditionPredicate(condition))
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    // id 목록에 해당하는 todo 를 유저와 함께 DTO 로 바로 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    private List<TodoResponse> findTodoResponsesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        QTodo todo = QTodo.todo;
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(Projections.constructor(TodoResponse.class,
+                        todo.id,
+                        todo.title,
+                        todo.contents,
+                        todo.weather,
+                        Projections.constructor(UserResponse.class,
+                                user.id,
+                                user.email,
+                                user.nickname
+                        ),
+                        todo.createdAt,
+                        todo.modifiedAt
+                ))
+                .from(todo)
+                .join(todo.user, user)
+                .where(todo.id.in(ids))
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .fetch();
+    }
+
+    private <T> Slice<T> toSlice(List<T> results, Pageable pageable) {
+        boolean hasNext = results.size() > pageable.getPageSize();
+        List<T> content = hasNext ? results.subList(0, pageable.getPageSize()) : results;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private BooleanBuilder getConditionPredicate(TodoGetCondition condition) {
+        QTodo todo = QTodo.todo;
+
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (condition.getNormalizedWeather() != null) {
+            builder.and(todo.weather.eq(condition.getNormalizedWeather()));
+        }
+        if (condition.getStart() != null) {
+            builder.and(todo.modifiedAt.goe(condition.getStart().atStartOfDay())); // 수정일 기준 시작일
+        }
+        if (condition.getEnd() != null) {
+            builder.and(todo.modifiedAt.loe(condition.getEnd().atTime(23, 59, 59))); // 수정일 기준 종료일
+        }
+        return builder;
+    }
+
+    private BooleanBuilder searchConditionPredicate(TodoSearchCondition condition) {
+        QTodo todo = QTodo.todo;
+
+        BooleanBuilder builder = new BooleanBuilder();
+
+        String keyword = condition.getNormalizedKeyword();
+        if (keyword != null) {
+            // n-gram 색인으로 후보 id 를 먼저 좁히고, 실제 포함 여부는 LIKE 로 다시 확인 (색인이 다 만들어지기 전에는 LIKE 만 사용)
+            Set<String> tokens = NGramTokenizer.queryTokens(keyword);
+            if (!tokens.isEmpty() && searchIndexStatus.isReady(SearchTarget.TODO_TITLE)) {
+                builder.and(todo.id.in(matchingTargetIds(SearchTarget.TODO_TITLE, tokens)));
+            }
+            builder.and(todo.title.contains(keyword));
+        }
+        if (condition.getStart() != null) {
+            builder.and(todo.createdAt.goe(condition.getStart().atStartOfDay())); // 생성일 기준 시작일
+        }
+        if (condition.getEnd() != null) {
+            builder.and(todo.createdAt.loe(condition.getEnd().atTime(23, 59, 59))); // 생성일 기준 종료일
+        }
+        String nickname = condition.getNormalizedNickname();
+        if (nickname != null) {
+            Set<String> tokens = NGramTokenizer.queryTokens(nickname);
+            if (!tokens.isEmpty() && searchIndexStatus.isReady(SearchTarget.USER_NICKNAME)) {
+                builder.and(todo.user.id.in(matchingTargetIds(SearchTarget.USER_NICKNAME, tokens)));
+            }
+            // 정규화된 닉네임으로 포함 여부 확인 (backfill 이 아직 안 된 행은 원래 nickname 으로 비교)
+            builder.and(todo.user.nicknameNormalized.contains(nickname)
+                    .or(todo.user.nicknameNormalized.isNull().and(todo.user.nickname.contains(condition.getNickname().trim()))));
+        }
+        return builder;
+    }
+
+    // 검색어의 모든 토큰을 가진 대상 id (search_tokens PK 범위 스캔)
+    private JPQLQuery<Long> matchingTargetIds(SearchTarget target, Set<String> tokens) {
+        QSearchToken searchToken = QSearchToken.searchToken;
+
+        return JPAExpressions
+                .select(searchToken.targetId)
+                .from(searchToken)
+                .where(searchToken.target.eq(target), searchToken.token.in(tokens))
+                .groupBy(searchToken.targetId)
+                .having(searchToken.token.count().eq((long) tokens.size()));
+    }
+
+    private ConstructorExpression<TodoSearchResponse> searchProjection() {
+        QTodo todo = QTodo.todo;
+
+        return Projections.constructor(TodoSearchResponse.class,
+                todo.id,
+                todo.title,
+                todo.managerCount, // manager count
+                todo.commentCount, // comment count
+                todo.createdAt
+        );
+    }
 }
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.cache.SingleFlightLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+@Component
+public class TodoCountCache {
+
+    private final AsyncCache<List<Object>, Long> cache;
+
+    public TodoCountCache(
+            @Value("${todo.count-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${todo.count-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .buildAsync();
+    }
+
+    // 같은 조건의 COUNT 결과가 TTL 안에 있으면 재사용하고, 없으면 한 번만 조회해서 저장한다.
+    public long get(List<Object> conditionKey, LongSupplier countQuery) {
+        return SingleFlightLoader.get(cache, conditionKey, countQuery::getAsLong);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.repository.DataMigrationJdbcRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TodoCounterReconciler {
+
+    static final String BACKFILL_MIGRATION = "todo_counter_backfill";
+
+    private final TodoRepository todoRepository;
+    private final DataMigrationJdbcRepository dataMigrationJdbcRepository;
+    private final int chunkSize;
+    private final boolean reconcileOnStartup;
+
+    public TodoCounterReconciler(
+            TodoRepository todoRepository,
+            DataMigrationJdbcRepository dataMigrationJdbcRepository,
+            @Value("${todo.counter.reconcile-chunk-size:5000}") int chunkSize,
+            @Value("${todo.counter.reconcile-on-startup:true}") boolean reconcileOnStartup
+    ) {
+        this.todoRepository = todoRepository;
+        this.dataMigrationJdbcRepository = dataMigrationJdbcRepository;
+        this.chunkSize = chunkSize;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    // 카운터 컬럼 도입 이전의 행은 0 으로 들어가 있으므로 첫 정기 보정을 기다리지 않고 시작 시 한 번 채운다.
+    // 완료 기록이 있으면 건너뛴다. (이후 어긋난 값은 정기 보정이 맞춘다) 백그라운드에서 실행해서 애플리케이션 시작을 막지 않는다.
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAfterStartup() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        try {
+            if (dataMigrationJdbcRepository.isCompleted(BACKFILL_MIGRATION)) {
+                return;
+            }
+            reconcile();
+            dataMigrationJdbcRepository.markCompleted(BACKFILL_MIGRATION);
+        } catch (Exception e) {
+            log.error("Todo counter backfill on startup failed, it will be retried on the next startup", e);
+        }
+    }
+
+    // managerCount / commentCount 가 실제 managers / comments 수와 어긋난 경우 보정
+    @Scheduled(cron = "${todo.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        long processed = 0;
+        // id 구간별로 짧은 트랜잭션을 나눠서 실행 (테이블 전체를 오래 잠그지 않도록)
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            processed += todoRepository.reconcileCounts(fromId, fromId + chunkSize - 1);
+        }
+        log.info("Todo counter reconciliation finished. maxId: {}, processed rows: {}", maxId, processed);
+    }
+}
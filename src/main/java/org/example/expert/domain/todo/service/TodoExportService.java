@@ -0,0 +1,85 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TodoExportService {
+
+    private static final String CSV_HEADER = "id,title,weather,nickname,managerCount,commentCount,createdAt";
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    // MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetchSize 단위로 가져온다. (없으면 결과 전체를 드라이버가 읽음)
+    public TodoExportService(
+            TodoRepository todoRepository,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // 한 행씩 읽어서 바로 응답에 쓴다. (결과 전체를 메모리에 올리지 않음)
+    // 스트리밍 응답을 쓰는 동안 커서가 열려 있어야 하므로 쓰기까지 하나의 트랜잭션에서 실행
+    @Transactional(readOnly = true)
+    public void export(TodoSearchCondition condition, TodoExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == TodoExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TodoExportRow> rows = todoRepository.streamSearchTodos(condition, fetchSize)) {
+            Iterator<TodoExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TodoExportRow row = iterator.next();
+                writer.write(format == TodoExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private static String toCsv(TodoExportRow row) {
+        return String.join(",",
+                String.valueOf(row.getId()),
+                escapeCsv(row.getTitle()),
+                escapeCsv(row.getWeather()),
+                escapeCsv(row.getNickname()),
+                String.valueOf(row.getManagerCount()),
+                String.valueOf(row.getCommentCount()),
+                row.getCreatedAt() == null ? "" : row.getCreatedAt().toString()
+        );
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 큰따옴표로 감싼다.
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
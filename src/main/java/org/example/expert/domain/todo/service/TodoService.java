@@ -4,31 +4,47 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.TodoGetCondition;
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountPolicy;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
+    private final SearchIndexService searchIndexService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 외부 API 호출 동안 DB 커넥션을 잡고 있지 않도록, 날씨 조회는 트랜잭션 밖에서 먼저 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -40,7 +56,12 @@ public class TodoService {
                 weather,
                 user
         );
-        Todo savedTodo = todoRepository.save(newTodo);
+        // 트랜잭션은 INSERT (+ 검색 색인) 에만 사용
+        Todo savedTodo = transactionTemplate.execute(status -> {
+            Todo saved = todoRepository.save(newTodo);
+            searchIndexService.index(SearchTarget.TODO_TITLE, saved.getId(), saved.getTitle());
+            return saved;
+        });
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -51,32 +72,86 @@ public class TodoService {
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size, TodoGetCondition condition) {
+    public Slice<TodoResponse> getTodos(int page, int size, TodoGetCondition condition, TodoCountPolicy countPolicy) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findTodosByCondition(condition, pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail(), todo.getUser().getNickname()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return switch (countPolicy) {
+            case EXACT -> todoRepository.findTodosByCondition(condition, pageable);
+            case NONE -> todoRepository.findTodoSliceByCondition(condition, pageable);
+            case CACHED -> PageableExecutionUtils.getPage(
+                    todoRepository.findTodoSliceByCondition(condition, pageable).getContent(),
+                    pageable,
+                    () -> todoCountCache.get(condition.toCacheKey(), () -> todoRepository.countTodosByCondition(condition))
+            );
+        };
     }
 
-    public Page<TodoSearchResponse> searchTodos(int page, int size, TodoSearchCondition condition) {
+    public Slice<TodoSearchResponse> searchTodos(int page, int size, TodoSearchCondition condition, TodoCountPolicy countPolicy) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        return todoRepository.searchTodos(condition, pageable);
+        return switch (countPolicy) {
+            case EXACT -> todoRepository.searchTodos(condition, pageable);
+            case NONE -> todoRepository.searchTodoSlice(condition, pageable);
+            case CACHED -> PageableExecutionUtils.getPage(
+                    todoRepository.searchTodoSlice(condition, pageable).getContent(),
+                    pageable,
+                    () -> todoCountCache.get(condition.toCacheKey(), () -> todoRepository.countSearchTodos(condition))
+            );
+        };
+    }
+
+    public TodoCursorResponse<TodoResponse> getTodosByCursor(String cursor, int size, TodoGetCondition condition) {
+        TodoCursor after = cursor == null ? null : TodoCursor.decode(cursor);
+        size = cursorPageSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TodoResponse> results = todoRepository.findTodosByConditionAfter(condition, after, size + 1);
+
+        boolean hasNext = results.size() > size;
+        List<TodoResponse> content = hasNext ? results.subList(0, size) : results;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new TodoCursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    public TodoCursorResponse<TodoSearchResponse> searchTodosByCursor(String cursor, int size, TodoSearchCondition condition) {
+        TodoCursor after = cursor == null ? null : TodoCursor.decode(cursor);
+        size = cursorPageSize(size);
+
+        List<TodoSearchResponse> results = todoRepository.searchTodosAfter(condition, after, size + 1);
+
+        boolean hasNext = results.size() > size;
+        List<TodoSearchResponse> content = hasNext ? results.subList(0, size) : results;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoSearchResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TodoCursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    // 0 이하는 거절하고, 너무 큰 값은 최대 크기로 제한 (size + 1 오버플로 방지)
+    private static int cursorPageSize(int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
     }
 
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
+        return toTodoResponse(todo);
+    }
+
+    // 엔티티 -> 응답 변환 (벤치마크에서도 같은 경로를 측정하도록 분리)
+    static TodoResponse toTodoResponse(Todo todo) {
         User user = todo.getUser();
 
         return new TodoResponse(
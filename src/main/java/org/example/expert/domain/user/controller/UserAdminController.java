@@ -1,21 +1,41 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserImportService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // 본문을 그대로 스트림으로 읽는다 (파일 전체를 메모리에 올리지 않음)
+    @PostMapping(value = "/admin/users/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<UserImportResponse> importUsersFromCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(request.getInputStream(), UserImportFormat.CSV));
+    }
+
+    @PostMapping(value = "/admin/users/import", consumes = "application/x-ndjson")
+    public ResponseEntity<UserImportResponse> importUsersFromNdjson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(request.getInputStream(), UserImportFormat.NDJSON));
+    }
 }
@@ -0,0 +1,16 @@
+package org.example.expert.domain.user.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRow {
+
+    private String email;
+    private String nickname;
+    private String password;
+    private String userRole; // 비어 있으면 ROLE_USER
+}
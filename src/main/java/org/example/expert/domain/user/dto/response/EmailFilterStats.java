@@ -0,0 +1,31 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class EmailFilterStats {
+
+    private final boolean ready;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final long approximateEmailCount;
+    private final double estimatedFalsePositiveRate; // 현재 채워진 비트 수 기준 이론값
+    private final long definiteMissCount;            // DB 조회를 생략한 횟수
+    private final long mightContainCount;
+    private final long falsePositiveCount;           // 있다고 했지만 DB 에 없었던 횟수
+    private final double observedFalsePositiveRate;  // falsePositive / (falsePositive + definiteMiss)
+
+    public EmailFilterStats(boolean ready, long bitSize, int hashFunctions, long approximateEmailCount,
+                            double estimatedFalsePositiveRate, long definiteMissCount, long mightContainCount,
+                            long falsePositiveCount, double observedFalsePositiveRate) {
+        this.ready = ready;
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.approximateEmailCount = approximateEmailCount;
+        this.estimatedFalsePositiveRate = estimatedFalsePositiveRate;
+        this.definiteMissCount = definiteMissCount;
+        this.mightContainCount = mightContainCount;
+        this.falsePositiveCount = falsePositiveCount;
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserImportResponse {
+
+    private final long totalRows;
+    private final long importedCount;
+    private final long duplicatedCount;
+    private final long invalidCount;
+    private final long failedCount;    // 검증은 통과했지만 저장에 실패한 행
+    private final List<String> errors; // 잘못되거나 저장에 실패한 행의 사유 (최대 개수까지만)
+    private final long elapsedMs;
+
+    public UserImportResponse(long totalRows, long importedCount, long duplicatedCount, long invalidCount,
+                              long failedCount, List<String> errors, long elapsedMs) {
+        this.totalRows = totalRows;
+        this.importedCount = importedCount;
+        this.duplicatedCount = duplicatedCount;
+        this.invalidCount = invalidCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+        this.elapsedMs = elapsedMs;
+    }
+}
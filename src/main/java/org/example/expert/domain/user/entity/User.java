@@ -4,28 +4,42 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.entity.IdSequence;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
 
+import java.text.Normalizer;
+import java.util.Locale;
+
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at", columnList = "created_at"), // 최근 가입자 조회 (email filter 동기화)
+        @Index(name = "idx_users_nickname_normalized", columnList = "nickname_normalized") // 닉네임 조회
+})
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = IdSequence.USERS,
+            allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
     @Column(unique = true)
     private String email;
     private String nickname;
+    private String nicknameNormalized; // 조회용 닉네임 (대소문자, 유니코드 표기, 앞뒤 공백 통일)
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
-    private String profileImageUrl;
+    private String profileImageUrl; // 썸네일(MEDIUM)이 만들어지기 전까지는 원본 URL
+    private String profileImageKey; // 원본 이미지의 S3 key (썸네일 key 도 여기서 만든다)
 
     public User(String email, String nickname, String password, UserRole userRole) {
         this.email = email;
         this.nickname = nickname;
+        this.nicknameNormalized = normalizeNickname(nickname);
         this.password = password;
         this.userRole = userRole;
     }
@@ -44,6 +58,13 @@ public class User extends Timestamped {
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 UserRole")));
     }
 
+    public static String normalizeNickname(String nickname) {
+        if (nickname == null) {
+            return null;
+        }
+        return Normalizer.normalize(nickname, Normalizer.Form.NFKC).trim().toLowerCase(Locale.ROOT);
+    }
+
     public void changePassword(String password) {
         this.password = password;
     }
@@ -52,7 +73,8 @@ public class User extends Timestamped {
         this.userRole = userRole;
     }
 
-    public void updateProfileImage(String profileImageUrl) {
+    public void updateProfileImage(String profileImageUrl, String profileImageKey) {
         this.profileImageUrl = profileImageUrl;
+        this.profileImageKey = profileImageKey;
     }
 }
@@ -0,0 +1,7 @@
+package org.example.expert.domain.user.enums;
+
+public enum UserImportFormat {
+
+    CSV,    // email,nickname,password[,userRole] (첫 줄의 첫 번째 필드가 email 이면 헤더로 보고 건너뜀)
+    NDJSON  // 한 줄에 하나의 JSON 객체 {"email": ..., "nickname": ..., "password": ..., "userRole": ...}
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO users (id, email, nickname, nickname_normalized, password, user_role, created_at, modified_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 미리 예약한 firstId 부터 순서대로 id 를 붙여 multi-row INSERT 로 저장 (한 문장에 최대 ROWS_PER_STATEMENT 행)
+    public void insertAll(long firstId, List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < users.size(); from += ROWS_PER_STATEMENT) {
+            List<User> rows = users.subList(from, Math.min(from + ROWS_PER_STATEMENT, users.size()));
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> args = new ArrayList<>(rows.size() * 8);
+            for (int i = 0; i < rows.size(); i++) {
+                User user = rows.get(i);
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+                args.add(firstId + from + i);
+                args.add(user.getEmail());
+                args.add(user.getNickname());
+                args.add(user.getNicknameNormalized());
+                args.add(user.getPassword());
+                args.add(user.getUserRole().name());
+                args.add(now);
+                args.add(now);
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+}
@@ -2,11 +2,48 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-    Optional<User> findByNickname(String nickname);
+
+    // nickname_normalized 인덱스로 조회 (backfill 이 아직 안 된 행은 원래 nickname 으로 비교)
+    default Optional<User> findByNickname(String nickname) {
+        return findFirstByNormalizedNickname(User.normalizeNickname(nickname), nickname);
+    }
+
+    @Query("SELECT u FROM User u"
+            + " WHERE u.nicknameNormalized = :normalized"
+            + " OR (u.nicknameNormalized IS NULL AND u.nickname = :nickname)"
+            + " ORDER BY u.id LIMIT 1")
+    Optional<User> findFirstByNormalizedNickname(@Param("normalized") String normalized, @Param("nickname") String nickname);
+
     boolean existsByEmail(String email);
+
+    // 그 사이에 비밀번호가 바뀌었으면 덮어쓰지 않도록 기존 해시가 그대로일 때만 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 썸네일을 만드는 사이에 프로필 이미지가 바뀌거나 삭제됐으면 덮어쓰지 않도록 원본 key 가 그대로일 때만 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.profileImageUrl = :profileImageUrl"
+            + " WHERE u.id = :userId AND u.profileImageKey = :profileImageKey")
+    int updateProfileImageUrlIfCurrent(@Param("userId") Long userId,
+                                       @Param("profileImageKey") String profileImageKey,
+                                       @Param("profileImageUrl") String profileImageUrl);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
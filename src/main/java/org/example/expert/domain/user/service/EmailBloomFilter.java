@@ -0,0 +1,211 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.EmailFilterStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 가입된 email 의 Bloom filter
+// 가입 시 "없다" 는 답이면 중복 확인 조회를 생략한다. (실제 중복은 email unique 제약이 막는다)
+// 다른 서버의 가입이나 JDBC 로 넣은 유저는 동기화 전까지 반영되지 않으므로 "없다" 를 근거로 요청을 거절하면 안 된다.
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private static final String CHUNK_SQL = "SELECT id, email FROM users WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String RECENT_SQL = "SELECT email FROM users WHERE created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final int loadChunkSize;
+    private final long syncMarginSeconds;
+
+    private final AtomicLong setBitCount = new AtomicLong();
+    private final AtomicLong definiteMissCount = new AtomicLong();
+    private final AtomicLong mightContainCount = new AtomicLong();
+    private final AtomicLong falsePositiveCount = new AtomicLong();
+
+    // 처음 적재가 끝나기 전에는 모든 email 을 "있을 수 있음" 으로 보고 DB 를 조회한다.
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public EmailBloomFilter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${user.email-filter.expected-insertions:2000000}") long expectedInsertions,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${user.email-filter.load-chunk-size:10000}") int loadChunkSize,
+            @Value("${user.email-filter.sync-margin-seconds:60}") long syncMarginSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loadChunkSize = loadChunkSize;
+        this.syncMarginSeconds = syncMarginSeconds;
+
+        // m = -n ln(p) / (ln 2)^2, k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    // 애플리케이션 시작을 막지 않도록 users 테이블을 applicationTaskExecutor 에서 청크 단위로 읽어 적재
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("Email filter load failed, keep checking emails against the database", e);
+        }
+    }
+
+    // 다른 서버에서 가입한 email 도 반영되도록 최근 가입자를 주기적으로 추가
+    @Scheduled(fixedDelayString = "${user.email-filter.sync-interval-ms:10000}")
+    public void syncRecent() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        // 커밋이 늦게 된 행이나 서버 간 시계 차이를 고려해서 조금 겹치게 조회
+        Timestamp from = Timestamp.valueOf(lastSyncedAt.minusSeconds(syncMarginSeconds));
+        jdbcTemplate.query(RECENT_SQL, rs -> {
+            put(rs.getString(1));
+        }, from);
+        lastSyncedAt = syncStartedAt;
+    }
+
+    public void put(String email) {
+        long[] hash = hash(email);
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(index(hash, i));
+        }
+    }
+
+    // false 면 확실히 가입되지 않은 email
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+
+        long[] hash = hash(email);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!getBit(index(hash, i))) {
+                definiteMissCount.incrementAndGet();
+                return false;
+            }
+        }
+        mightContainCount.incrementAndGet();
+        return true;
+    }
+
+    // mightContain 이 true 였지만 DB 에 없었던 경우 호출 (오탐률 측정용)
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositiveCount.incrementAndGet();
+        }
+    }
+
+    public EmailFilterStats getStats() {
+        double fillRatio = (double) setBitCount.get() / bitSize;
+        long falsePositives = falsePositiveCount.get();
+        long definiteMisses = definiteMissCount.get();
+        long negatives = falsePositives + definiteMisses;
+
+        return new EmailFilterStats(
+                ready,
+                bitSize,
+                hashFunctions,
+                // n ≈ -m / k * ln(1 - X / m)
+                Math.round(-(double) bitSize / hashFunctions * Math.log(1 - fillRatio)),
+                Math.pow(fillRatio, hashFunctions),
+                definiteMisses,
+                mightContainCount.get(),
+                falsePositives,
+                negatives == 0 ? 0 : (double) falsePositives / negatives
+        );
+    }
+
+    private void load() {
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        long lastId = 0;
+        long loaded = 0;
+
+        while (true) {
+            long[] chunkLastId = {lastId};
+            int[] chunkCount = {0};
+            jdbcTemplate.query(CHUNK_SQL, rs -> {
+                chunkLastId[0] = rs.getLong(1);
+                chunkCount[0]++;
+                put(rs.getString(2));
+            }, lastId, loadChunkSize);
+
+            if (chunkCount[0] == 0) {
+                break;
+            }
+            lastId = chunkLastId[0];
+            loaded += chunkCount[0];
+        }
+
+        lastSyncedAt = loadStartedAt;
+        ready = true;
+        log.info("Email filter loaded. emails: {}, bits: {}, hash functions: {}", loaded, bitSize, hashFunctions);
+        // 적재 중에 다른 서버에서 가입한 email 반영
+        syncRecent();
+    }
+
+    private long index(long[] hash, int i) {
+        return Math.floorMod(hash[0] + i * hash[1], bitSize);
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+            if (bits.compareAndSet(word, current, current | mask)) {
+                setBitCount.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // MySQL 의 email 비교는 대소문자를 구분하지 않으므로 소문자로 맞춘 뒤 해싱 (FNV-1a + murmur3 finalizer 로 두 개의 해시)
+    private static long[] hash(String email) {
+        byte[] bytes = email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return new long[]{mix(h), mix(h ^ 0x9e3779b97f4a7c15L) | 1};
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ce1a7L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
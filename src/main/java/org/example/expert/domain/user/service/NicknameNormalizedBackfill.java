@@ -0,0 +1,81 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// nickname_normalized 컬럼 도입 이전에 가입한 유저의 값을 채운다.
+// id 구간별로 짧은 트랜잭션을 나눠 실행해서 테이블을 오래 잠그지 않는다. (이미 채워진 행은 건너뜀)
+@Slf4j
+@Component
+public class NicknameNormalizedBackfill {
+
+    private static final String CHUNK_SQL =
+            "SELECT id, nickname FROM users WHERE id > ? AND nickname_normalized IS NULL ORDER BY id LIMIT ?";
+    private static final String UPDATE_SQL =
+            "UPDATE users SET nickname_normalized = ? WHERE id = ? AND nickname_normalized IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public NicknameNormalizedBackfill(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${user.nickname-backfill.chunk-size:1000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAsync() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("Nickname backfill failed", e);
+        }
+    }
+
+    public void backfill() {
+        long lastId = 0;
+        long updated = 0;
+
+        while (true) {
+            List<Object[]> batchArgs = new ArrayList<>();
+            long[] chunkLastId = {lastId};
+            jdbcTemplate.query(CHUNK_SQL, rs -> {
+                chunkLastId[0] = rs.getLong(1);
+                String nickname = rs.getString(2);
+                if (nickname != null) {
+                    batchArgs.add(new Object[]{User.normalizeNickname(nickname), chunkLastId[0]});
+                }
+            }, lastId, chunkSize);
+
+            if (chunkLastId[0] == lastId) {
+                break;
+            }
+            lastId = chunkLastId[0];
+
+            if (!batchArgs.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs));
+                updated += batchArgs.size();
+            }
+        }
+
+        if (updated > 0) {
+            log.info("Nickname backfill finished. updated rows: {}", updated);
+        }
+    }
+}
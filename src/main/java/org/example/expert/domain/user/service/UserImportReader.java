@@ -0,0 +1,128 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.user.dto.request.UserImportRow;
+import org.example.expert.domain.user.enums.UserImportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 업로드 본문을 한 줄씩 읽어서 행으로 변환한다. (파일 전체를 메모리에 올리지 않음)
+class UserImportReader {
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectMapper objectMapper;
+    private long lineNumber = 0;
+    private boolean firstLineRead = false;
+
+    UserImportReader(BufferedReader reader, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // 다음 행을 읽는다. 더 이상 없으면 null, 형식이 잘못된 행이면 IllegalArgumentException
+    UserImportRow next() {
+        String line = readNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+
+        if (!firstLineRead) {
+            firstLineRead = true;
+            // 엑셀 등에서 저장한 UTF-8 BOM 제거
+            if (line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            // 첫 번째 필드가 정확히 email 인 경우만 헤더로 보고 건너뛴다. (emailteam@... 같은 실제 행은 그대로 처리)
+            if (format == UserImportFormat.CSV && isHeader(line)) {
+                line = readNonBlankLine();
+                if (line == null) {
+                    return null;
+                }
+            }
+        }
+
+        return format == UserImportFormat.CSV ? parseCsv(line) : parseJson(line);
+    }
+
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    private String readNonBlankLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isHeader(String line) {
+        try {
+            return "email".equalsIgnoreCase(splitCsv(line).get(0));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private UserImportRow parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() < 3 || fields.size() > 4) {
+            throw new IllegalArgumentException("컬럼 수가 올바르지 않습니다.");
+        }
+        return new UserImportRow(fields.get(0), fields.get(1), fields.get(2), fields.size() == 4 ? fields.get(3) : null);
+    }
+
+    private UserImportRow parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, UserImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    // 큰따옴표로 감싼 필드("a,b", "" 이스케이프)를 지원하는 단순 CSV 분리
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
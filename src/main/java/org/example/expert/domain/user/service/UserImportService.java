@@ -0,0 +1,290 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.entity.IdSequence;
+import org.example.expert.domain.common.repository.IdSequenceJdbcRepository;
+import org.example.expert.domain.search.enums.SearchTarget;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.example.expert.domain.user.dto.request.UserImportRow;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 대량 유저 등록: 업로드를 한 줄씩 읽어 청크 단위로 검증 -> 중복 제거 -> 비밀번호 병렬 인코딩 -> multi-row INSERT
+// 청크 하나만 메모리에 두므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final IdSequenceJdbcRepository idSequenceJdbcRepository;
+    private final SearchIndexService searchIndexService;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserJdbcRepository userJdbcRepository,
+            IdSequenceJdbcRepository idSequenceJdbcRepository,
+            SearchIndexService searchIndexService,
+            PasswordEncoder passwordEncoder,
+            EmailBloomFilter emailBloomFilter,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${user.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.userRepository = userRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.idSequenceJdbcRepository = idSequenceJdbcRepository;
+        this.searchIndexService = searchIndexService;
+        this.passwordEncoder = passwordEncoder;
+        this.emailBloomFilter = emailBloomFilter;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public UserImportResponse importUsers(InputStream inputStream, UserImportFormat format) {
+        long startedAt = System.currentTimeMillis();
+        UserImportReader reader = new UserImportReader(
+                new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), format, objectMapper);
+
+        ImportProgress progress = new ImportProgress();
+        Map<String, UserImportRow> chunk = new LinkedHashMap<>(); // 소문자 email -> 행 (청크 안의 중복 제거)
+
+        while (true) {
+            UserImportRow row;
+            try {
+                row = reader.next();
+            } catch (IllegalArgumentException e) {
+                progress.invalid(reader.getLineNumber(), e.getMessage());
+                continue;
+            }
+            if (row == null) {
+                break;
+            }
+
+            progress.totalRows++;
+            String invalidReason = validate(row);
+            if (invalidReason != null) {
+                progress.invalid(reader.getLineNumber(), invalidReason);
+                continue;
+            }
+            if (chunk.putIfAbsent(row.getEmail().toLowerCase(Locale.ROOT), row) != null) {
+                progress.duplicatedCount++;
+                continue;
+            }
+
+            if (chunk.size() >= chunkSize) {
+                importChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress);
+        }
+
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        log.info("User import finished. rows: {}, imported: {}, duplicated: {}, invalid: {}, failed: {}, elapsed: {}ms",
+                progress.totalRows, progress.importedCount, progress.duplicatedCount, progress.invalidCount,
+                progress.failedCount, elapsedMs);
+
+        return new UserImportResponse(
+                progress.totalRows,
+                progress.importedCount,
+                progress.duplicatedCount,
+                progress.invalidCount,
+                progress.failedCount,
+                progress.errors,
+                elapsedMs
+        );
+    }
+
+    private void importChunk(Map<String, UserImportRow> chunk, ImportProgress progress) {
+        // 이미 가입된 email 은 제외 (청크 단위로 한 번만 조회)
+        List<UserImportRow> rows = excludeExistingEmails(chunk);
+        progress.duplicatedCount += chunk.size() - rows.size();
+
+        List<User> users = encodePasswords(rows);
+        if (!users.isEmpty()) {
+            saveWithFallback(users, progress);
+        }
+
+        log.info("User import progress. rows: {}, imported: {}, duplicated: {}, invalid: {}, failed: {}",
+                progress.totalRows, progress.importedCount, progress.duplicatedCount, progress.invalidCount, progress.failedCount);
+    }
+
+    // 청크 저장이 실패해도 가져오기 전체를 중단하지 않는다. (이전 청크는 이미 커밋됐으므로 응답의 건수가 실제 저장 결과와 같아야 함)
+    private void saveWithFallback(List<User> users, ImportProgress progress) {
+        try {
+            saveChunk(users);
+            progress.importedCount += users.size();
+            return;
+        } catch (DuplicateKeyException e) {
+            // 조회 이후 다른 요청으로 같은 email 이 가입된 경우, 다시 걸러서 한 번 더 시도
+            List<User> retryUsers = excludeExistingUsers(users);
+            progress.duplicatedCount += users.size() - retryUsers.size();
+            users = retryUsers;
+            try {
+                if (!users.isEmpty()) {
+                    saveChunk(users);
+                }
+                progress.importedCount += users.size();
+                return;
+            } catch (DataAccessException retryException) {
+                log.warn("User import chunk failed again, saving row by row. reason: {}", retryException.getMessage());
+            }
+        } catch (DataAccessException e) {
+            log.warn("User import chunk failed, saving row by row. reason: {}", e.getMessage());
+        }
+
+        // 그래도 실패하면 (대소문자만 다른 email 등) 한 행씩 저장해서 실패한 행만 제외
+        for (User user : users) {
+            try {
+                saveChunk(List.of(user));
+                progress.importedCount++;
+            } catch (DuplicateKeyException e) {
+                progress.duplicatedCount++;
+            } catch (DataAccessException e) {
+                progress.failed(user.getEmail(), e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private void saveChunk(List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long firstId = idSequenceJdbcRepository.reserve(IdSequence.USERS, users.size());
+            userJdbcRepository.insertAll(firstId, users);
+
+            Map<Long, String> nicknameById = new LinkedHashMap<>();
+            for (int i = 0; i < users.size(); i++) {
+                nicknameById.put(firstId + i, users.get(i).getNickname());
+            }
+            searchIndexService.indexNew(SearchTarget.USER_NICKNAME, nicknameById);
+        });
+
+        for (User user : users) {
+            emailBloomFilter.put(user.getEmail());
+        }
+    }
+
+    private List<UserImportRow> excludeExistingEmails(Map<String, UserImportRow> chunk) {
+        Set<String> existing = lowerCaseSet(userRepository.findExistingEmails(
+                chunk.values().stream().map(UserImportRow::getEmail).toList()));
+
+        List<UserImportRow> rows = new ArrayList<>(chunk.size());
+        chunk.forEach((email, row) -> {
+            if (!existing.contains(email)) {
+                rows.add(row);
+            }
+        });
+        return rows;
+    }
+
+    private List<User> excludeExistingUsers(List<User> users) {
+        Set<String> existing = lowerCaseSet(userRepository.findExistingEmails(
+                users.stream().map(User::getEmail).toList()));
+
+        return users.stream()
+                .filter(user -> !existing.contains(user.getEmail().toLowerCase(Locale.ROOT)))
+                .toList();
+    }
+
+    // bcrypt 인코딩이 가장 오래 걸리므로 청크 안의 행들을 해싱 스레드풀에서 동시에 인코딩
+    private List<User> encodePasswords(List<UserImportRow> rows) {
+        List<String> encodedPasswords = passwordEncoder.encodeAll(rows.stream().map(UserImportRow::getPassword).toList());
+
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            UserImportRow row = rows.get(i);
+            users.add(new User(
+                    row.getEmail(),
+                    row.getNickname(),
+                    encodedPasswords.get(i),
+                    StringUtils.hasText(row.getUserRole()) ? UserRole.of(row.getUserRole()) : UserRole.ROLE_USER
+            ));
+        }
+        return users;
+    }
+
+    private String validate(UserImportRow row) {
+        if (!StringUtils.hasText(row.getEmail()) || !row.getEmail().contains("@")) {
+            return "email 형식이 올바르지 않습니다.";
+        }
+        if (!StringUtils.hasText(row.getNickname())) {
+            return "nickname 이 비어 있습니다.";
+        }
+        if (!StringUtils.hasText(row.getPassword())) {
+            return "password 가 비어 있습니다.";
+        }
+        if (StringUtils.hasText(row.getUserRole())) {
+            try {
+                UserRole.of(row.getUserRole());
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        }
+        return null;
+    }
+
+    private static Set<String> lowerCaseSet(List<String> emails) {
+        Set<String> result = new HashSet<>();
+        for (String email : emails) {
+            result.add(email.toLowerCase(Locale.ROOT));
+        }
+        return result;
+    }
+
+    private static class ImportProgress {
+        private long totalRows;
+        private long importedCount;
+        private long duplicatedCount;
+        private long invalidCount;
+        private long failedCount;
+        private final List<String> errors = new ArrayList<>();
+
+        private void invalid(long lineNumber, String reason) {
+            invalidCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + "번째 줄: " + reason);
+            }
+        }
+
+        private void failed(String email, String reason) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(email + ": " + reason);
+            }
+        }
+    }
+}
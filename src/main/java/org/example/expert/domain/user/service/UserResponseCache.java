@@ -0,0 +1,70 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.cache.SingleFlightLoader;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 유저 조회 응답을 id / nickname 별로 메모리에 보관 (read-through)
+@Component
+public class UserResponseCache {
+
+    private final AsyncCache<Long, UserResponse> byId;
+    private final AsyncCache<String, UserResponse> byNickname;
+
+    public UserResponseCache(
+            @Value("${user.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${user.cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.byId = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .buildAsync();
+        this.byNickname = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .buildAsync();
+    }
+
+    // 캐시에 없으면 loader 로 한 번만 조회해서 저장한다. (loader 가 예외를 던지면 저장하지 않음)
+    public UserResponse getById(long userId, Function<Long, UserResponse> loader) {
+        return SingleFlightLoader.get(byId, userId, () -> loader.apply(userId));
+    }
+
+    // 정규화된 닉네임을 key 로 사용 (대소문자만 다른 조회도 같은 항목을 사용)
+    public UserResponse getByNickname(String nickname, Function<String, UserResponse> loader) {
+        return SingleFlightLoader.get(byNickname, User.normalizeNickname(nickname), () -> loader.apply(nickname));
+    }
+
+    // 유저 정보가 바뀌는 트랜잭션에서 호출
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 지운다.
+    public void evict(Long userId, String nickname) {
+        evictNow(userId, nickname);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(userId, nickname);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId, String nickname) {
+        if (userId != null) {
+            byId.synchronous().invalidate(userId);
+        }
+        if (nickname != null) {
+            byNickname.synchronous().invalidate(User.normalizeNickname(nickname));
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -17,33 +18,46 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserResponseCache userResponseCache;
 
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail(), user.getNickname());
+        return userResponseCache.getById(userId, id -> {
+            User user = userRepository.findById(id).orElseThrow(() -> new InvalidRequestException("User not found"));
+            return new UserResponse(user.getId(), user.getEmail(), user.getNickname());
+        });
     }
 
     public UserResponse getUser(String nickname) {
-        User user = userRepository.findByNickname(nickname).orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail(), user.getNickname());
+        return userResponseCache.getByNickname(nickname, key -> {
+            User user = userRepository.findByNickname(key).orElseThrow(() -> new InvalidRequestException("User not found"));
+            return new UserResponse(user.getId(), user.getEmail(), user.getNickname());
+        });
     }
 
-    @Transactional
+    // bcrypt 검증/해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 수행하고, 변경만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
-        }
-
+        // 기존 비밀번호만 한 번 검증하고, 새 비밀번호는 검증된 기존 비밀번호와 문자열로 비교 (bcrypt 검증 1회)
         if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        }
+
+        String encodedPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+
+        // 검증한 이후 다른 요청으로 비밀번호가 바뀌었으면 덮어쓰지 않는다.
+        if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), encodedPassword) == 0) {
+            throw new InvalidRequestException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
+        }
+        userResponseCache.evict(user.getId(), user.getNickname());
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
@@ -0,0 +1,121 @@
+package org.example.expert.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
+import com.amazonaws.services.s3.transfer.Upload;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserResponseCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImageServiceTest {
+
+    private static final long MULTIPART_THRESHOLD = 1024;
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+    @Mock
+    private TransferManager transferManager;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserResponseCache userResponseCache;
+    @InjectMocks
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(imageService, "bucketName", "bucket");
+
+        TransferManagerConfiguration configuration = new TransferManagerConfiguration();
+        configuration.setMultipartUploadThreshold(MULTIPART_THRESHOLD);
+        given(transferManager.getConfiguration()).willReturn(configuration);
+        given(amazonS3Client.getUrl(eq("bucket"), anyString())).willReturn(new URL("https://bucket.s3.amazonaws.com/image.png"));
+    }
+
+    @Test
+    void threshold_보다_작은_이미지는_길이를_알려준_스트림으로_한_번에_업로드한다() {
+        // given
+        MockMultipartFile image = new MockMultipartFile("image", "profile.PNG", "image/png", new byte[100]);
+
+        // when
+        String url = imageService.upload(image);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3Client).putObject(captor.capture());
+        verify(transferManager, never()).upload(any(PutObjectRequest.class));
+
+        PutObjectRequest request = captor.getValue();
+        assertEquals("bucket", request.getBucketName());
+        assertNotNull(request.getInputStream());
+        assertNull(request.getFile());
+        assertEquals(100, request.getMetadata().getContentLength());
+        assertEquals("image/png", request.getMetadata().getContentType());
+        assertEquals("https://bucket.s3.amazonaws.com/image.png", url);
+    }
+
+    @Test
+    void threshold_이상인_이미지는_임시_파일로_옮겨_멀티파트로_업로드한다() throws Exception {
+        // given
+        MockMultipartFile image = new MockMultipartFile("image", "profile.jpg", "image/jpeg", new byte[4096]);
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        Upload upload = mock(Upload.class);
+        given(transferManager.upload(captor.capture())).willAnswer(invocation -> {
+            // 업로드 시점에는 임시 파일에 전체 내용이 있어야 한다.
+            assertEquals(4096, captor.getValue().getFile().length());
+            return upload;
+        });
+
+        // when
+        imageService.upload(image);
+
+        // then
+        verify(upload).waitForCompletion();
+        verify(amazonS3Client, never()).putObject(any(PutObjectRequest.class));
+
+        PutObjectRequest request = captor.getValue();
+        assertNull(request.getInputStream());
+        assertEquals(4096, request.getMetadata().getContentLength());
+        assertEquals("image/jpeg", request.getMetadata().getContentType());
+        // 업로드가 끝나면 임시 파일은 지운다.
+        assertFalse(request.getFile().exists());
+    }
+
+    @Test
+    void 허용하지_않는_확장자는_업로드하지_않는다() {
+        MockMultipartFile image = new MockMultipartFile("image", "profile.gif", "image/gif", new byte[10]);
+
+        assertThrows(InvalidRequestException.class, () -> imageService.upload(image));
+        verify(amazonS3Client, never()).putObject(any(PutObjectRequest.class));
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileImageProcessorTest {
+
+    private static final String ORIGINAL_KEY = "profile/1/abc.png";
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserResponseCache userResponseCache;
+
+    private ProfileImageProcessor profileImageProcessor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        profileImageProcessor = new ProfileImageProcessor(
+                amazonS3Client, userRepository, userResponseCache, "bucket", 1, 10, 40_000_000L);
+
+        S3Object original = new S3Object();
+        original.setObjectContent(new ByteArrayInputStream(png(1000, 500)));
+        given(amazonS3Client.getObject("bucket", ORIGINAL_KEY)).willReturn(original);
+        given(amazonS3Client.getUrl(eq("bucket"), anyString()))
+                .willAnswer(invocation -> new URL("https://bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        profileImageProcessor.shutdown();
+    }
+
+    @Test
+    void 원본으로_64_256_썸네일을_만들고_프로필_URL을_256_썸네일로_바꾼다() throws Exception {
+        // given
+        given(userRepository.updateProfileImageUrlIfCurrent(1L, ORIGINAL_KEY,
+                "https://bucket.s3.amazonaws.com/profile/1/abc_256.png")).willReturn(1);
+
+        // when
+        profileImageProcessor.process(1L, ORIGINAL_KEY);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3Client, times(2)).putObject(captor.capture());
+
+        Map<String, BufferedImage> uploaded = new HashMap<>();
+        for (PutObjectRequest request : captor.getAllValues()) {
+            assertEquals("image/png", request.getMetadata().getContentType());
+            uploaded.put(request.getKey(), ImageIO.read(request.getInputStream()));
+        }
+        // 비율을 유지한 채 긴 변을 크기에 맞춘다.
+        assertEquals(64, uploaded.get("profile/1/abc_64.png").getWidth());
+        assertEquals(32, uploaded.get("profile/1/abc_64.png").getHeight());
+        assertEquals(256, uploaded.get("profile/1/abc_256.png").getWidth());
+        assertEquals(128, uploaded.get("profile/1/abc_256.png").getHeight());
+
+        verify(userResponseCache).evict(1L, null);
+        verify(amazonS3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void 처리하는_사이에_프로필_이미지가_바뀌었으면_만든_썸네일과_원본을_지운다() throws Exception {
+        // given
+        given(userRepository.updateProfileImageUrlIfCurrent(eq(1L), eq(ORIGINAL_KEY), anyString())).willReturn(0);
+
+        // when
+        profileImageProcessor.process(1L, ORIGINAL_KEY);
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3Client).deleteObjects(captor.capture());
+        assertEquals(
+                List.of(ORIGINAL_KEY, "profile/1/abc_64.png", "profile/1/abc_256.png"),
+                captor.getValue().getKeys().stream().map(DeleteObjectsRequest.KeyVersion::getKey).toList());
+        verify(userResponseCache, never()).evict(any(), any());
+    }
+
+    private byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
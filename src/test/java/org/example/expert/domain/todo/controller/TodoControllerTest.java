@@ -1,35 +1,71 @@
 package org.example.expert.domain.todo.controller;
 
+import org.example.expert.config.JwtAuthenticationCache;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.SecurityConfig;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TodoController.class)
+@Import(SecurityConfig.class)
 class TodoControllerTest {
 
+    private static final String BEARER_TOKEN = "Bearer token";
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoExportService todoExportService;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtil.substringToken(BEARER_TOKEN)).thenReturn("token");
+        when(jwtAuthenticationCache.getAuthUser("token"))
+                .thenReturn(new AuthUser(1L, "email", "nickname", UserRole.ROLE_USER));
+    }
+
     @Test
     void todo_단건_조회에_성공한다() throws Exception {
         // given
@@ -52,7 +88,7 @@ class TodoControllerTest {
         when(todoService.getTodo(todoId)).thenReturn(response);
 
         // then
-        mockMvc.perform(get("/todos/{todoId}", todoId))
+        mockMvc.perform(get("/todos/{todoId}", todoId).header("Authorization", BEARER_TOKEN))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(todoId))
                 .andExpect(jsonPath("$.title").value(title));
@@ -68,10 +104,33 @@ class TodoControllerTest {
                 .thenThrow(new InvalidRequestException("Todo not found"));
 
         // then
-        mockMvc.perform(get("/todos/{todoId}", todoId))
+        mockMvc.perform(get("/todos/{todoId}", todoId).header("Authorization", BEARER_TOKEN))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.name()))
                 .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
+
+    @Test
+    void todo_검색_결과를_CSV_로_내려받는다() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write("id,title\n1,title\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(todoExportService).export(any(), eq(TodoExportFormat.CSV), any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/todos/search/export")
+                        .param("format", "CSV")
+                        .header("Authorization", BEARER_TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then (본문을 다 쓴 뒤의 ASYNC 디스패치도 보안 필터를 통과해야 한다)
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"todos.csv\""))
+                .andExpect(content().string("id,title\n1,title\n"));
+    }
 }
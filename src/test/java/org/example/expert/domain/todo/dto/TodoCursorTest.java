@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TodoCursorTest {
+
+    @Test
+    void cursor를_인코딩한_뒤_디코딩하면_같은_값이_나온다() {
+        // given
+        LocalDateTime timestamp = LocalDateTime.of(2024, 10, 1, 12, 30, 15, 123456000);
+        TodoCursor cursor = new TodoCursor(timestamp, 42L);
+
+        // when
+        TodoCursor decoded = TodoCursor.decode(cursor.encode());
+
+        // then
+        assertEquals(timestamp, decoded.getTimestamp());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void 잘못된_cursor를_디코딩하면_예외가_발생한다() {
+        assertThrows(InvalidRequestException.class, () -> TodoCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TodoSearchConditionTest {
+
+    @Test
+    void 정규화한_조건이_같으면_같은_COUNT_캐시_키를_사용한다() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition("title", null, null, "Kim");
+
+        // when & then
+        assertEquals(condition.toCacheKey(), new TodoSearchCondition(" title ", null, null, "kim").toCacheKey());
+        assertEquals(condition.toCacheKey(), new TodoSearchCondition("title", null, null, " ＫＩＭ ").toCacheKey());
+        assertNotEquals(condition.toCacheKey(), new TodoSearchCondition("Title", null, null, "kim").toCacheKey());
+    }
+
+    @Test
+    void 공백만_있는_조건은_조건이_없는_것으로_본다() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition("  ", null, null, " ");
+
+        // when & then
+        assertNull(condition.getNormalizedKeyword());
+        assertNull(condition.getNormalizedNickname());
+        assertEquals(new TodoSearchCondition(null, null, null, null).toCacheKey(), condition.toCacheKey());
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoGetCondition;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoService todoService;
+
+    private final TodoGetCondition condition = new TodoGetCondition(null, null, null);
+
+    @Test
+    void 커서_조회_시_size가_1보다_작으면_예외가_발생한다() {
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor(null, 0, condition));
+        assertThrows(InvalidRequestException.class, () -> todoService.searchTodosByCursor(
+                null, -1, new TodoSearchCondition(null, null, null, null)));
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 커서_조회_시_size가_최대값보다_크면_최대값으로_조회한다() {
+        // given
+        given(todoRepository.findTodosByConditionAfter(any(), any(), anyInt())).willReturn(List.of());
+
+        // when
+        todoService.getTodosByCursor(null, Integer.MAX_VALUE, condition);
+
+        // then
+        verify(todoRepository).findTodosByConditionAfter(condition, null, TodoService.MAX_CURSOR_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void 커서_조회_시_size보다_한_건_더_조회되면_다음_cursor를_반환한다() {
+        // given
+        given(todoRepository.findTodosByConditionAfter(eq(condition), any(), eq(3))).willReturn(todos(3));
+
+        // when
+        TodoCursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, 2, condition);
+
+        // then
+        assertEquals(2, response.getContent().size());
+        assertTrue(response.isHasNext());
+        assertNotNull(response.getNextCursor());
+    }
+
+    @Test
+    void 커서_조회_시_size_이하로_조회되면_마지막_페이지다() {
+        // given
+        given(todoRepository.findTodosByConditionAfter(eq(condition), any(), eq(2))).willReturn(todos(1));
+
+        // when
+        TodoCursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, 1, condition);
+
+        // then
+        assertEquals(1, response.getContent().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    private List<TodoResponse> todos(int count) {
+        List<TodoResponse> todos = new ArrayList<>();
+        UserResponse user = new UserResponse(1L, "email", "nickname");
+        for (int i = count; i > 0; i--) {
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 0, 0).plusMinutes(i);
+            todos.add(new TodoResponse((long) i, "title", "contents", "Sunny", user, modifiedAt, modifiedAt));
+        }
+        return todos;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.expert.domain.user;
 
+import org.example.expert.domain.common.entity.IdSequence;
+import org.example.expert.domain.common.repository.IdSequenceJdbcRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -19,6 +21,9 @@ public class UserBatchInsertTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private IdSequenceJdbcRepository idSequenceJdbcRepository;
+
     @Test
     @Rollback(value = false)
     public void generateAndSaveUsersWithJdbcTemplate() {
@@ -26,6 +31,7 @@ public class UserBatchInsertTest {
         int totalUsers = 1000000; // 총 생성할 유저 수
 
         List<Object[]> batchArgs = new ArrayList<>();
+        long nextId = idSequenceJdbcRepository.reserve(IdSequence.USERS, batchSize); // id 는 Hibernate 와 같은 id_sequences 에서 예약
 
         for (int i = 0; i < totalUsers; i++) {
             String nickname = UUID.randomUUID().toString().substring(0, 7); // UUID로 유일한 닉네임 생성
@@ -33,18 +39,19 @@ public class UserBatchInsertTest {
             String password = "password";
             String userRole = "ROLE_USER";
 
-            batchArgs.add(new Object[]{email, nickname, password, userRole});
+            batchArgs.add(new Object[]{nextId++, email, nickname, password, userRole});
 
             // 배치마다 insert 실행
             if (batchArgs.size() == batchSize) {
-                jdbcTemplate.batchUpdate("INSERT INTO users (email, nickname, password, user_role) VALUES (?, ?, ?, ?)", batchArgs);
+                jdbcTemplate.batchUpdate("INSERT INTO users (id, email, nickname, password, user_role) VALUES (?, ?, ?, ?, ?)", batchArgs);
                 batchArgs.clear(); // 배치 완료 후 리스트 초기화
+                nextId = idSequenceJdbcRepository.reserve(IdSequence.USERS, batchSize);
             }
         }
 
         // 남은 유저 저장
         if (!batchArgs.isEmpty()) {
-            jdbcTemplate.batchUpdate("INSERT INTO users (email, nickname, password, user_role) VALUES (?, ?, ?, ?)", batchArgs);
+            jdbcTemplate.batchUpdate("INSERT INTO users (id, email, nickname, password, user_role) VALUES (?, ?, ?, ?, ?)", batchArgs);
         }
     }
 
@@ -0,0 +1,82 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.user.dto.request.UserImportRow;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserImportReaderTest {
+
+    @Test
+    void 첫_줄의_첫_번째_필드가_email_이면_헤더로_보고_건너뛴다() {
+        // given
+        UserImportReader reader = csv("\uFEFFEmail,nickname,password\na@a.com,nick,pw\n");
+
+        // when
+        UserImportRow row = reader.next();
+
+        // then
+        assertEquals("a@a.com", row.getEmail());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void email_로_시작하는_주소는_헤더가_아니라_데이터로_처리한다() {
+        // given
+        UserImportReader reader = csv("emailteam@corp.com,team,pw\n");
+
+        // when
+        UserImportRow row = reader.next();
+
+        // then
+        assertEquals("emailteam@corp.com", row.getEmail());
+    }
+
+    @Test
+    void 헤더_앞에_빈_줄이_있어도_헤더를_건너뛴다() {
+        // given
+        UserImportReader reader = csv("\n  \nemail,nickname,password\na@a.com,nick,pw\n");
+
+        // when
+        UserImportRow row = reader.next();
+
+        // then
+        assertEquals("a@a.com", row.getEmail());
+        assertEquals(4, reader.getLineNumber());
+    }
+
+    @Test
+    void 따옴표로_감싼_필드의_쉼표와_이스케이프된_따옴표를_처리한다() {
+        // given
+        UserImportReader reader = csv("a@a.com,\"Kim, \"\"Jr\"\"\",pw,ROLE_ADMIN\n");
+
+        // when
+        UserImportRow row = reader.next();
+
+        // then
+        assertEquals("Kim, \"Jr\"", row.getNickname());
+        assertEquals("pw", row.getPassword());
+        assertEquals("ROLE_ADMIN", row.getUserRole());
+    }
+
+    @Test
+    void 닫히지_않은_따옴표가_있으면_예외가_발생하고_다음_행은_계속_읽는다() {
+        // given
+        UserImportReader reader = csv("a@a.com,\"nick,pw\nb@b.com,nick,pw\n");
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, reader::next);
+        assertEquals("b@b.com", reader.next().getEmail());
+    }
+
+    private UserImportReader csv(String content) {
+        return new UserImportReader(new BufferedReader(new StringReader(content)), UserImportFormat.CSV, new ObjectMapper());
+    }
+}
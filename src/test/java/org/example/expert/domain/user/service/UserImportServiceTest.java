@@ -0,0 +1,94 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.repository.IdSequenceJdbcRepository;
+import org.example.expert.domain.search.service.SearchIndexService;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+    @Mock
+    private IdSequenceJdbcRepository idSequenceJdbcRepository;
+    @Mock
+    private SearchIndexService searchIndexService;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(
+                userRepository, userJdbcRepository, idSequenceJdbcRepository, searchIndexService, passwordEncoder,
+                emailBloomFilter, new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper(), 1000);
+
+        given(userRepository.findExistingEmails(anyList())).willReturn(List.of());
+        given(passwordEncoder.encodeAll(anyList()))
+                .willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream().map(password -> "encoded").toList());
+        given(idSequenceJdbcRepository.reserve(anyString(), anyInt())).willReturn(1L);
+    }
+
+    @Test
+    void 다시_시도한_청크_저장도_실패하면_한_행씩_저장하고_결과를_반환한다() {
+        // given (대소문자만 다른 email 이 이미 있어서 조회로는 걸러지지 않고 INSERT 만 실패하는 경우)
+        willAnswer(invocation -> {
+            List<User> users = invocation.getArgument(1);
+            if (users.stream().anyMatch(user -> user.getEmail().equals("b@a.com"))) {
+                throw new DuplicateKeyException("duplicate email");
+            }
+            return null;
+        }).given(userJdbcRepository).insertAll(anyLong(), anyList());
+
+        // when
+        UserImportResponse response = userImportService.importUsers(
+                csv("a@a.com,a,pw\nb@a.com,b,pw\nc@a.com,c,pw\n"), UserImportFormat.CSV);
+
+        // then
+        assertEquals(3, response.getTotalRows());
+        assertEquals(2, response.getImportedCount());
+        assertEquals(1, response.getDuplicatedCount());
+        assertEquals(0, response.getFailedCount());
+        verify(emailBloomFilter).put("a@a.com");
+        verify(emailBloomFilter).put("c@a.com");
+        verify(emailBloomFilter, never()).put("b@a.com");
+    }
+
+    private ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}